@@ -20,11 +20,15 @@ package com.oliveryasuna.commons.language;
 
 import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.function.IterationBiFunction;
+import com.oliveryasuna.commons.language.function.IterationConsumer;
+import com.oliveryasuna.commons.language.function.IterationPredicate;
 import com.oliveryasuna.commons.language.marker.Utility;
 
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
 /**
@@ -258,6 +262,111 @@ public final class ArrayUtils {
     }
   }
 
+  /**
+   * Performs an action for each element of an array and its index.
+   *
+   * @param array  The array.
+   * @param action The action.
+   * @param <T>    The type of elements.
+   */
+  public static <T> void forEachIndexed(final T[] array, final IterationConsumer<? super T> action) {
+    Arguments.requireNotNull(array, "array");
+    Arguments.requireNotNull(action, "action");
+
+    for(int i = 0; i < array.length; i++) {
+      action.accept(array[i], i);
+    }
+  }
+
+  /**
+   * Filters an array by a predicate of each element and its index.
+   *
+   * @param array     The array.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return A new array, of the same component type, of the matching elements.
+   */
+  public static <T> T[] filterIndexed(final T[] array, final IterationPredicate<? super T> predicate) {
+    Arguments.requireNotNull(array, "array");
+    Arguments.requireNotNull(predicate, "predicate");
+
+    final T[] result = Arrays.copyOf(array, array.length);
+    int size = 0;
+
+    for(int i = 0; i < array.length; i++) {
+      if(predicate.test(array[i], i)) {
+        result[size++] = array[i];
+      }
+    }
+
+    return (size == result.length ? result : Arrays.copyOf(result, size));
+  }
+
+  /**
+   * Maps an array by a function of each element and its index.
+   *
+   * @param array     The array.
+   * @param mapper    Maps an element and its index.
+   * @param generator Creates the result array, given its length, as for {@link java.util.stream.Stream#toArray(IntFunction)}.
+   * @param <T>       The type of elements.
+   * @param <R>       The type of mapped elements.
+   *
+   * @return A new array, created by {@code generator}, of the mapped elements.
+   */
+  public static <T, R> R[] mapIndexed(final T[] array, final IterationBiFunction<? super T, ? extends R> mapper, final IntFunction<R[]> generator) {
+    Arguments.requireNotNull(array, "array");
+    Arguments.requireNotNull(mapper, "mapper");
+    Arguments.requireNotNull(generator, "generator");
+
+    final R[] result = generator.apply(array.length);
+
+    for(int i = 0; i < array.length; i++) {
+      result[i] = mapper.apply(array[i], i);
+    }
+
+    return result;
+  }
+
+  /**
+   * Takes the longest prefix of an array whose elements match a predicate of the element and its index.
+   *
+   * @param array     The array.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return A new array, of the same component type, of the prefix.
+   */
+  public static <T> T[] takeWhileIndexed(final T[] array, final IterationPredicate<? super T> predicate) {
+    return Arrays.copyOf(array, prefixLength(array, predicate));
+  }
+
+  /**
+   * Drops the longest prefix of an array whose elements match a predicate of the element and its index.
+   *
+   * @param array     The array.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return A new array, of the same component type, of the rest.
+   */
+  public static <T> T[] dropWhileIndexed(final T[] array, final IterationPredicate<? super T> predicate) {
+    return Arrays.copyOfRange(array, prefixLength(array, predicate), array.length);
+  }
+
+  private static <T> int prefixLength(final T[] array, final IterationPredicate<? super T> predicate) {
+    Arguments.requireNotNull(array, "array");
+    Arguments.requireNotNull(predicate, "predicate");
+
+    int length = 0;
+
+    while(length < array.length && predicate.test(array[length], length)) {
+      length++;
+    }
+
+    return length;
+  }
+
   /**
    * Gets whether an array is empty.
    *
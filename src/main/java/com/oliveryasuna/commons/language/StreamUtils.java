@@ -20,12 +20,19 @@ package com.oliveryasuna.commons.language;
 
 import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.function.IterationBiFunction;
+import com.oliveryasuna.commons.language.function.IterationConsumer;
+import com.oliveryasuna.commons.language.function.IterationPredicate;
 import com.oliveryasuna.commons.language.marker.Nullable;
 import com.oliveryasuna.commons.language.marker.Utility;
+import com.oliveryasuna.commons.language.stream.*;
 
 import java.util.*;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.*;
 import java.util.stream.StreamSupport;
 
 /**
@@ -36,6 +43,11 @@ import java.util.stream.StreamSupport;
 @Utility
 public final class StreamUtils {
 
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int REVERSE_CHARACTERISTICS = (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+
   // Static methods
   //--------------------------------------------------
 
@@ -45,16 +57,636 @@ public final class StreamUtils {
     return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
   }
 
+  /**
+   * Creates a stream over an {@link Iterator} of known size.
+   *
+   * @param iterator The iterator.
+   * @param size     The exact number of elements.
+   * @param <T>      The type of elements.
+   *
+   * @return The stream.
+   */
+  public static <T> Stream<T> ofIterator(final Iterator<T> iterator, final long size) {
+    return ofIterator(iterator, size, Spliterator.ORDERED | Spliterator.SIZED);
+  }
+
+  /**
+   * Creates a stream over an {@link Iterator} with a size hint and characteristics.
+   * <p>
+   * When parallel, the stream splits by copying batches of elements into arrays, as described by {@link BatchingSpliterator}.
+   *
+   * @param iterator        The iterator.
+   * @param size            The exact number of elements, if {@code characteristics} reports {@link Spliterator#SIZED}; otherwise, an estimate,
+   *                        or {@link Long#MAX_VALUE} if unknown.
+   * @param characteristics The {@link Spliterator} characteristics of the source.
+   * @param <T>             The type of elements.
+   *
+   * @return The stream.
+   */
+  public static <T> Stream<T> ofIterator(final Iterator<T> iterator, final long size, final int characteristics) {
+    return StreamSupport.stream(new BatchingSpliterator<>(iterator, size, characteristics), false);
+  }
+
+  /**
+   * Creates a stream over an {@link Iterator} that, when parallel, splits into batches of a fixed size.
+   *
+   * @param iterator        The iterator.
+   * @param size            The exact number of elements, if {@code characteristics} reports {@link Spliterator#SIZED}; otherwise, an estimate,
+   *                        or {@link Long#MAX_VALUE} if unknown.
+   * @param characteristics The {@link Spliterator} characteristics of the source.
+   * @param batchSize       The number of elements per split.
+   * @param <T>             The type of elements.
+   *
+   * @return The stream.
+   */
+  public static <T> Stream<T> ofIterator(final Iterator<T> iterator, final long size, final int characteristics, final int batchSize) {
+    return StreamSupport.stream(new BatchingSpliterator<>(iterator, size, characteristics, batchSize), false);
+  }
+
+  /**
+   * Creates an {@link IntStream} over a {@link PrimitiveIterator.OfInt} of unknown size, without boxing.
+   *
+   * @param iterator The iterator.
+   *
+   * @return The stream.
+   */
+  public static IntStream ofIterator(final PrimitiveIterator.OfInt iterator) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Creates an {@link IntStream} over a {@link PrimitiveIterator.OfInt} of known size.
+   *
+   * @param iterator The iterator.
+   * @param size     The exact number of elements.
+   *
+   * @return The stream.
+   */
+  public static IntStream ofIterator(final PrimitiveIterator.OfInt iterator, final long size) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.intStream(Spliterators.spliterator(iterator, size, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Creates a {@link LongStream} over a {@link PrimitiveIterator.OfLong} of unknown size, without boxing.
+   *
+   * @param iterator The iterator.
+   *
+   * @return The stream.
+   */
+  public static LongStream ofIterator(final PrimitiveIterator.OfLong iterator) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Creates a {@link LongStream} over a {@link PrimitiveIterator.OfLong} of known size.
+   *
+   * @param iterator The iterator.
+   * @param size     The exact number of elements.
+   *
+   * @return The stream.
+   */
+  public static LongStream ofIterator(final PrimitiveIterator.OfLong iterator, final long size) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.longStream(Spliterators.spliterator(iterator, size, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Creates a {@link DoubleStream} over a {@link PrimitiveIterator.OfDouble} of unknown size, without boxing.
+   *
+   * @param iterator The iterator.
+   *
+   * @return The stream.
+   */
+  public static DoubleStream ofIterator(final PrimitiveIterator.OfDouble iterator) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+  }
+
+  /**
+   * Creates a {@link DoubleStream} over a {@link PrimitiveIterator.OfDouble} of known size.
+   *
+   * @param iterator The iterator.
+   * @param size     The exact number of elements.
+   *
+   * @return The stream.
+   */
+  public static DoubleStream ofIterator(final PrimitiveIterator.OfDouble iterator, final long size) {
+    Arguments.requireNotNull(iterator, "iterator");
+
+    return StreamSupport.doubleStream(Spliterators.spliterator(iterator, size, Spliterator.ORDERED), false);
+  }
+
   public static <T> Stream<T> ofNullable(@Nullable final T value) {
     return (value != null ? Stream.of(value) : Stream.empty());
   }
 
+  /**
+   * Creates a stream over the elements of another stream in reverse encounter order.
+   * <p>
+   * Lazy: the source is not consumed until a terminal operation is invoked on the result.
+   * The source is then drained into a single array (presized, if the source is sized) and traversed backwards with a sized, splittable
+   * {@link Spliterator}.
+   *
+   * @param stream The source.
+   * @param <T>    The type of elements.
+   *
+   * @return The reversed stream, which closes the source when closed.
+   */
   public static <T> Stream<T> reverse(final Stream<T> stream) {
-    final Deque<T> stack = new LinkedList<>();
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(() -> new DescendingArraySpliterator<T>(stream.toArray(), 0), REVERSE_CHARACTERISTICS, stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates an {@link IntStream} over the elements of another in reverse encounter order, without boxing.
+   *
+   * @param stream The source.
+   *
+   * @return The reversed stream, which closes the source when closed.
+   *
+   * @see #reverse(Stream)
+   */
+  public static IntStream reverse(final IntStream stream) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.intStream(() -> new DescendingArraySpliterator.OfInt(stream.toArray(), 0), REVERSE_CHARACTERISTICS, stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates a {@link LongStream} over the elements of another in reverse encounter order, without boxing.
+   *
+   * @param stream The source.
+   *
+   * @return The reversed stream, which closes the source when closed.
+   *
+   * @see #reverse(Stream)
+   */
+  public static LongStream reverse(final LongStream stream) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.longStream(() -> new DescendingArraySpliterator.OfLong(stream.toArray(), 0), REVERSE_CHARACTERISTICS, stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates a {@link DoubleStream} over the elements of another in reverse encounter order, without boxing.
+   *
+   * @param stream The source.
+   *
+   * @return The reversed stream, which closes the source when closed.
+   *
+   * @see #reverse(Stream)
+   */
+  public static DoubleStream reverse(final DoubleStream stream) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.doubleStream(() -> new DescendingArraySpliterator.OfDouble(stream.toArray(), 0), REVERSE_CHARACTERISTICS,
+            stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates a stream over the elements of a {@link List} in reverse order.
+   * <p>
+   * {@link RandomAccess} lists are read in place, without copying; the size is taken when this method is called.
+   * Other lists are reversed as by {@link #reverse(Stream)}.
+   *
+   * @param list The list.
+   * @param <T>  The type of elements.
+   *
+   * @return The reversed stream.
+   */
+  public static <T> Stream<T> reverse(final List<T> list) {
+    Arguments.requireNotNull(list, "list");
+
+    if(list instanceof RandomAccess) {
+      final int last = (list.size() - 1);
+
+      return IntStream.rangeClosed(0, last).mapToObj(i -> list.get(last - i));
+    }
+
+    return reverse(list.stream());
+  }
+
+  /**
+   * Creates a stream over the elements of an array in reverse order, without copying it.
+   *
+   * @param array The array.
+   * @param <T>   The type of elements.
+   *
+   * @return The reversed stream.
+   */
+  public static <T> Stream<T> reverse(final T[] array) {
+    Arguments.requireNotNull(array, "array");
+
+    return StreamSupport.stream(new DescendingArraySpliterator<>(array, 0), false);
+  }
+
+  /**
+   * Groups consecutive elements of a stream into lists of a fixed size; the last list may be smaller.
+   * <p>
+   * Lazy: one chunk is filled at a time, so unbounded streams can be chunked in bounded memory.
+   * If the source is sized, the result splits on chunk boundaries for parallel execution; see {@link ChunkingSpliterator}.
+   *
+   * @param stream The source.
+   * @param size   The number of elements per chunk.
+   * @param <T>    The type of elements.
+   *
+   * @return A stream of chunks, which closes the source when closed.
+   */
+  public static <T> Stream<List<T>> chunked(final Stream<T> stream, final int size) {
+    Arguments.requireNotNull(stream, "stream");
 
-    stream.forEach(stack::push);
+    return StreamSupport.stream(new ChunkingSpliterator<>(stream.spliterator(), size), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates a stream of sliding windows over a stream.
+   * <p>
+   * Each window holds {@code size} consecutive elements and starts {@code step} elements after the previous one; trailing elements that do not
+   * fill a whole window are dropped.
+   * Lazy: only the current window is buffered.
+   *
+   * @param stream The source.
+   * @param size   The number of elements per window.
+   * @param step   The number of elements between the starts of consecutive windows.
+   * @param <T>    The type of elements.
+   *
+   * @return A stream of windows, which closes the source when closed.
+   *
+   * @see WindowingSpliterator
+   */
+  public static <T> Stream<List<T>> windowed(final Stream<T> stream, final int size, final int step) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(new WindowingSpliterator<>(stream.spliterator(), size, step), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Combines the elements of two streams pairwise, lazily.
+   * <p>
+   * The result ends when either stream ends, and is sequential.
+   *
+   * @param first  The first stream.
+   * @param second The second stream.
+   * @param zipper Combines an element of each stream.
+   * @param <A>    The type of elements of the first stream.
+   * @param <B>    The type of elements of the second stream.
+   * @param <R>    The type of combined elements.
+   *
+   * @return The combined stream, which closes both streams when closed.
+   */
+  public static <A, B, R> Stream<R> zip(final Stream<? extends A> first, final Stream<? extends B> second,
+                                        final BiFunction<? super A, ? super B, ? extends R> zipper) {
+    Arguments.requireNotNull(first, "first");
+    Arguments.requireNotNull(second, "second");
 
-    return stack.stream();
+    return StreamSupport.stream(new ZipSpliterator<A, B, R>(first.spliterator(), second.spliterator(), zipper), false)
+        .onClose(closeAll(first, second));
+  }
+
+  /**
+   * Takes one element from each stream in turn, lazily, skipping streams that have ended.
+   * <p>
+   * The result is sequential.
+   *
+   * @param streams The streams.
+   * @param <T>     The type of elements.
+   *
+   * @return The interleaved stream, which closes every stream when closed.
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> Stream<T> interleave(final Stream<? extends T>... streams) {
+    Arguments.requireNotNull(streams, "streams");
+    Arguments.requireNotContainsSame(streams, null, "streams");
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Spliterator<? extends T>[] spliterators = new Spliterator[streams.length];
+
+    for(int i = 0; i < streams.length; i++) {
+      spliterators[i] = streams[i].spliterator();
+    }
+
+    return StreamSupport.stream(new InterleavingSpliterator<T>(spliterators), false)
+        .onClose(closeAll(streams));
+  }
+
+  /**
+   * Merges streams that are each sorted by the same {@link Comparator} into one sorted stream, lazily.
+   * <p>
+   * A k-way heap merge: {@code O(n log k)} time, and one buffered element per stream.
+   * The result is sequential.
+   *
+   * @param comparator The order of every stream.
+   * @param streams    The streams.
+   * @param <T>        The type of elements.
+   *
+   * @return The merged stream, which closes every stream when closed.
+   *
+   * @see MergingSpliterator
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public static <T> Stream<T> mergeSorted(final Comparator<? super T> comparator, final Stream<? extends T>... streams) {
+    Arguments.requireNotNull(streams, "streams");
+    Arguments.requireNotContainsSame(streams, null, "streams");
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Spliterator<? extends T>[] spliterators = new Spliterator[streams.length];
+
+    for(int i = 0; i < streams.length; i++) {
+      spliterators[i] = streams[i].spliterator();
+    }
+
+    return StreamSupport.stream(new MergingSpliterator<T>(comparator, spliterators), false)
+        .onClose(closeAll(streams));
+  }
+
+  /**
+   * Concatenates any number of streams into one, lazily.
+   * <p>
+   * Unlike repeated {@link Stream#concat(Stream, Stream)}, the sources are held flat, as described by {@link ConcatSpliterator}, so neither
+   * traversal nor splitting recurses once per source.
+   * The result is parallel if any stream is.
+   *
+   * @param streams The streams.
+   * @param <T>     The type of elements.
+   *
+   * @return The concatenated stream, which closes every stream when closed.
+   *
+   * @see ConcatSpliterator
+   */
+  public static <T> Stream<T> concat(final Iterable<? extends Stream<? extends T>> streams) {
+    Arguments.requireNotNull(streams, "streams");
+
+    final List<Stream<? extends T>> list = new ArrayList<>();
+
+    streams.forEach(list::add);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Stream<? extends T>[] array = list.toArray(new Stream[0]);
+
+    Arguments.requireNotContainsSame(array, null, "streams");
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Spliterator<? extends T>[] spliterators = new Spliterator[array.length];
+    boolean parallel = false;
+
+    for(int i = 0; i < array.length; i++) {
+      spliterators[i] = array[i].spliterator();
+      parallel |= array[i].isParallel();
+    }
+
+    return StreamSupport.stream(new ConcatSpliterator<T>(spliterators), parallel)
+        .onClose(closeAll(array));
+  }
+
+  /**
+   * Concatenates the elements of any number of iterators into one stream, lazily.
+   * <p>
+   * Iterators are consumed in order, and each is only requested from {@code iterators} once the previous one is exhausted.
+   *
+   * @param iterators The iterators.
+   * @param <T>       The type of elements.
+   *
+   * @return The concatenated stream.
+   *
+   * @see Iterators#flatten(Iterator)
+   */
+  public static <T> Stream<T> flatConcat(final Iterator<? extends Iterator<? extends T>> iterators) {
+    return ofIterator(Iterators.flatten(iterators), Long.MAX_VALUE, Spliterator.ORDERED);
+  }
+
+  /**
+   * Filters a stream by a predicate of each element and its encounter index.
+   * <p>
+   * The index is passed as a primitive {@code int}.
+   * Parallel streams are filtered in parallel if the source is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+   *
+   * @param stream    The stream.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return The filtered stream, which closes the source when closed.
+   *
+   * @see IndexedSpliterator
+   */
+  public static <T> Stream<T> filterIndexed(final Stream<T> stream, final IterationPredicate<? super T> predicate) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(new IndexedSpliterator<T, T>(stream.spliterator(), predicate, (element, index) -> element), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Maps a stream by a function of each element and its encounter index.
+   * <p>
+   * The index is passed as a primitive {@code int}.
+   * Parallel streams are mapped in parallel if the source is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+   *
+   * @param stream The stream.
+   * @param mapper Maps an element and its index.
+   * @param <T>    The type of elements.
+   * @param <R>    The type of mapped elements.
+   *
+   * @return The mapped stream, which closes the source when closed.
+   *
+   * @see IndexedSpliterator
+   */
+  public static <T, R> Stream<R> mapIndexed(final Stream<T> stream, final IterationBiFunction<? super T, ? extends R> mapper) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(new IndexedSpliterator<T, R>(stream.spliterator(), mapper), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Performs an action for each element of a stream and its encounter index.
+   * <p>
+   * The index is passed as a primitive {@code int}.
+   * As with {@link Stream#forEach(Consumer)}, parallel streams may perform the action in any order, but each element is still passed its
+   * encounter index.
+   *
+   * @param stream The stream.
+   * @param action The action.
+   * @param <T>    The type of elements.
+   */
+  public static <T> void forEachIndexed(final Stream<T> stream, final IterationConsumer<? super T> action) {
+    Arguments.requireNotNull(stream, "stream");
+    Arguments.requireNotNull(action, "action");
+
+    if(!stream.isParallel()) {
+      stream.spliterator().forEachRemaining(new Consumer<>() {
+
+        private long index;
+
+        @Override
+        public void accept(final T element) {
+          action.accept(element, Math.toIntExact(index++));
+        }
+
+      });
+
+      return;
+    }
+
+    StreamSupport.stream(new IndexedSpliterator<T, T>(stream.spliterator(), (element, index) -> {
+      action.accept(element, index);
+
+      return element;
+    }), true).forEach(element -> {
+      // The action has already been performed.
+    });
+  }
+
+  /**
+   * Takes the longest prefix of a stream whose elements match a predicate of the element and its encounter index.
+   * <p>
+   * The index is passed as a primitive {@code int}.
+   * The source is not read past the first element that does not match.
+   * The result does not split.
+   *
+   * @param stream    The stream.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return The prefix, which closes the source when closed.
+   *
+   * @see TakeWhileSpliterator
+   */
+  public static <T> Stream<T> takeWhileIndexed(final Stream<T> stream, final IterationPredicate<? super T> predicate) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(new TakeWhileSpliterator<T>(stream.spliterator(), predicate), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Drops the longest prefix of a stream whose elements match a predicate of the element and its encounter index.
+   * <p>
+   * The index is passed as a primitive {@code int}.
+   * The rest of the stream splits as the source does.
+   *
+   * @param stream    The stream.
+   * @param predicate Tests an element and its index.
+   * @param <T>       The type of elements.
+   *
+   * @return The rest of the stream, which closes the source when closed.
+   *
+   * @see DropWhileSpliterator
+   */
+  public static <T> Stream<T> dropWhileIndexed(final Stream<T> stream, final IterationPredicate<? super T> predicate) {
+    Arguments.requireNotNull(stream, "stream");
+
+    return StreamSupport.stream(new DropWhileSpliterator<T>(stream.spliterator(), predicate), stream.isParallel())
+        .onClose(stream::close);
+  }
+
+  /**
+   * Creates a close handler that closes every stream, even if some fail.
+   * <p>
+   * The first exception thrown is rethrown, with any later ones suppressed.
+   */
+  private static Runnable closeAll(final BaseStream<?, ?>... streams) {
+    return () -> {
+      RuntimeException exception = null;
+
+      for(final BaseStream<?, ?> stream : streams) {
+        try {
+          stream.close();
+        } catch(final RuntimeException e) {
+          if(exception == null) {
+            exception = e;
+          } else if(exception != e) {
+            exception.addSuppressed(e);
+          }
+        }
+      }
+
+      if(exception != null) {
+        throw exception;
+      }
+    };
+  }
+
+  /**
+   * Concatenates a stream of Unicode code points into a {@link String} without boxing.
+   *
+   * @param codePoints The code points.
+   *
+   * @return The string.
+   *
+   * @see #joinCodePoints(IntStream, int)
+   */
+  public static String joinCodePoints(final IntStream codePoints) {
+    return joinCodePoints(codePoints, 16);
+  }
+
+  /**
+   * Concatenates a stream of Unicode code points into a {@link String} without boxing.
+   * <p>
+   * A sequential stream appends into a single buffer of {@code capacity} chars.
+   * A parallel stream appends into one buffer per partial result; partial results are linked rather than copied into each other, and copied once,
+   * into a buffer of the exact length, at the end.
+   *
+   * @param codePoints The code points.
+   * @param capacity   The expected number of chars.
+   *
+   * @return The string.
+   */
+  public static String joinCodePoints(final IntStream codePoints, final int capacity) {
+    Arguments.requireNotNull(codePoints, "codePoints");
+    Arguments.requireGreaterOrSame(capacity, 0, "capacity");
+
+    final int partCapacity = (codePoints.isParallel() ? 16 : capacity);
+
+    return codePoints.collect(() -> new StringChain(partCapacity), StringChain::appendCodePoint, StringChain::link).toString();
+  }
+
+  /**
+   * Concatenates a stream of UTF-16 chars, such as {@link CharSequence#chars()}, into a {@link String} without boxing.
+   *
+   * @param chars The chars.
+   *
+   * @return The string.
+   *
+   * @see #joinChars(IntStream, int)
+   */
+  public static String joinChars(final IntStream chars) {
+    return joinChars(chars, 16);
+  }
+
+  /**
+   * Concatenates a stream of UTF-16 chars, such as {@link CharSequence#chars()}, into a {@link String} without boxing.
+   * <p>
+   * Buffers as {@link #joinCodePoints(IntStream, int)} does.
+   *
+   * @param chars    The chars.
+   * @param capacity The expected number of chars.
+   *
+   * @return The string.
+   */
+  public static String joinChars(final IntStream chars, final int capacity) {
+    Arguments.requireNotNull(chars, "chars");
+    Arguments.requireGreaterOrSame(capacity, 0, "capacity");
+
+    final int partCapacity = (chars.isParallel() ? 16 : capacity);
+
+    return chars.collect(() -> new StringChain(partCapacity), StringChain::appendChar, StringChain::link).toString();
   }
 
   /**
@@ -65,33 +697,314 @@ public final class StreamUtils {
   public static final class Collectors {
 
     /**
-     * TODO: Documentation.
+     * Creates a {@link Collector} that accumulates elements into a {@link GrowableArray} and finishes with a stream over them in reverse order.
+     *
+     * @param <T> The type of elements.
+     *
+     * @return The collector.
      */
     public static <T> Collector<T, ?, Stream<T>> reverse() {
-      return java.util.stream.Collectors.collectingAndThen(java.util.stream.Collectors.toList(), list -> {
-        Collections.reverse(list);
+      return Collector.<T, GrowableArray<T>, Stream<T>>of(
+          GrowableArray::new,
+          GrowableArray::add,
+          GrowableArray::addAll,
+          buffer -> StreamSupport.stream(buffer.descendingSpliterator(), false));
+    }
 
-        return list.stream();
-      });
+    /**
+     * Creates a {@link Collector} that passes elements to a consumer in batches as they fill, and finishes with the number of batches passed.
+     * <p>
+     * Each accumulation holds fewer than {@code size} elements, so memory stays bounded on unbounded streams.
+     * The last batch may be smaller.
+     * In a parallel stream, batches are passed from multiple threads and not necessarily in encounter order, and so the consumer must be
+     * thread-safe.
+     *
+     * @param size     The number of elements per batch.
+     * @param consumer The consumer of batches; it may keep the lists it receives.
+     * @param <T>      The type of elements.
+     *
+     * @return The collector.
+     */
+    public static <T> Collector<T, ?, Long> batching(final int size, final Consumer<? super List<T>> consumer) {
+      Arguments.requireGreater(size, 0, "size");
+      Arguments.requireNotNull(consumer, "consumer");
+
+      return Collector.of(
+          () -> new Batcher<T>(size, consumer),
+          Batcher::add,
+          Batcher::combine,
+          Batcher::finish);
     }
 
     public static Collector<? super Character, StringBuilder, String> joining() {
       return Collector.of(StringBuilder::new, StringBuilder::append, StringBuilder::append, StringBuilder::toString);
     }
 
+    /**
+     * Creates a {@link Collector} that concatenates {@link CharSequence}s, separated by a delimiter.
+     *
+     * @param delimiter The delimiter.
+     *
+     * @return The collector.
+     *
+     * @see #joining(CharSequence, CharSequence, CharSequence)
+     */
+    public static Collector<CharSequence, ?, String> joining(final CharSequence delimiter) {
+      return joining(delimiter, "", "");
+    }
+
+    /**
+     * Creates a {@link Collector} that concatenates {@link CharSequence}s, separated by a delimiter and surrounded by a prefix and suffix.
+     * <p>
+     * Elements are kept by reference until the end, when they are copied once into a buffer of the exact length.
+     * Partial results of a parallel stream are linked in constant time rather than copied into each other.
+     *
+     * @param delimiter The delimiter.
+     * @param prefix    The prefix.
+     * @param suffix    The suffix.
+     *
+     * @return The collector.
+     */
+    public static Collector<CharSequence, ?, String> joining(final CharSequence delimiter, final CharSequence prefix, final CharSequence suffix) {
+      Arguments.requireNotNull(delimiter, "delimiter");
+      Arguments.requireNotNull(prefix, "prefix");
+      Arguments.requireNotNull(suffix, "suffix");
+
+      return Collector.of(
+          Joiner::new,
+          Joiner::add,
+          Joiner::link,
+          joiner -> joiner.join(delimiter, prefix, suffix));
+    }
+
     public static <K, V> Collector<Map.Entry<? extends K, ? extends V>, ?, Map<K, V>> toMap() {
       return Collector.of(
           HashMap::new,
           (map, entry) -> map.put(entry.getKey(), entry.getValue()),
+          Collectors::mergeMaps);
+    }
+
+    /**
+     * Creates a {@link Collector} into a {@link HashMap} presized to hold {@code expectedSize} entries without rehashing.
+     * <p>
+     * Every partial result of a parallel stream is presized too; prefer {@link #toConcurrentMap(int)} for parallel streams.
+     *
+     * @param expectedSize The expected number of entries.
+     * @param <K>          The type of keys.
+     * @param <V>          The type of values.
+     *
+     * @return The collector.
+     */
+    public static <K, V> Collector<Map.Entry<? extends K, ? extends V>, ?, Map<K, V>> toMap(final int expectedSize) {
+      Arguments.requireGreaterOrSame(expectedSize, 0, "expectedSize");
+
+      final int initialCapacity = (int)Math.min((long)Math.ceil(expectedSize / 0.75D), Integer.MAX_VALUE);
+
+      return Collector.of(
+          () -> new HashMap<>(initialCapacity),
+          (map, entry) -> map.put(entry.getKey(), entry.getValue()),
+          Collectors::mergeMaps);
+    }
+
+    /**
+     * Creates a {@link Collector} into a single {@link ConcurrentHashMap} shared by all threads of a parallel stream, so there is nothing to merge.
+     * <p>
+     * The collector is {@link Collector.Characteristics#CONCURRENT} and {@link Collector.Characteristics#UNORDERED}: if the same key occurs more than
+     * once, which value is kept is unspecified.
+     * Keys and values must not be {@code null}.
+     *
+     * @param <K> The type of keys.
+     * @param <V> The type of values.
+     *
+     * @return The collector.
+     */
+    public static <K, V> Collector<Map.Entry<? extends K, ? extends V>, ?, ConcurrentMap<K, V>> toConcurrentMap() {
+      return toConcurrentMap(16);
+    }
+
+    /**
+     * Creates a {@link Collector} into a single {@link ConcurrentHashMap} presized for {@code expectedSize} entries.
+     *
+     * @param expectedSize The expected number of entries.
+     * @param <K>          The type of keys.
+     * @param <V>          The type of values.
+     *
+     * @return The collector.
+     *
+     * @see #toConcurrentMap()
+     */
+    public static <K, V> Collector<Map.Entry<? extends K, ? extends V>, ?, ConcurrentMap<K, V>> toConcurrentMap(final int expectedSize) {
+      Arguments.requireGreaterOrSame(expectedSize, 0, "expectedSize");
+
+      return Collector.of(
+          () -> new ConcurrentHashMap<>(expectedSize),
+          (map, entry) -> map.put(entry.getKey(), entry.getValue()),
           (map1, map2) -> {
             map1.putAll(map2);
 
             return map1;
-          });
+          },
+          Collector.Characteristics.CONCURRENT,
+          Collector.Characteristics.UNORDERED,
+          Collector.Characteristics.IDENTITY_FINISH);
     }
 
+    /**
+     * Creates a {@link Collector} into an unmodifiable {@link Map}.
+     * <p>
+     * Keys and values are buffered as they arrive and then placed directly into a compact, open-addressing table; no intermediate {@link HashMap} is
+     * built.
+     * As with {@link #toMap()}, later entries replace earlier ones with the same key, and {@code null} keys and values are permitted.
+     * The result is not a view of a {@link HashMap}; its iteration order is unspecified and may differ from that of {@link #toMap()}.
+     * At most {@code 2^28} entries are supported.
+     *
+     * @param <K> The type of keys.
+     * @param <V> The type of values.
+     *
+     * @return The collector.
+     */
     public static <K, V> Collector<Map.Entry<? extends K, ? extends V>, ?, Map<K, V>> toUnmodifiableMap() {
-      return java.util.stream.Collectors.collectingAndThen(toMap(), Collections::unmodifiableMap);
+      return Collector.<Map.Entry<? extends K, ? extends V>, GrowableArray<Object>, Map<K, V>>of(
+          GrowableArray::new,
+          (buffer, entry) -> {
+            buffer.add(entry.getKey());
+            buffer.add(entry.getValue());
+          },
+          GrowableArray::addAll,
+          CompactMap::new);
+    }
+
+    /**
+     * Creates a {@link Collector} of the {@code k} greatest elements, in descending order.
+     * <p>
+     * Keeps a bounded min-heap of at most {@code k} elements per partial result, so memory is {@code O(k)} and time is {@code O(n log k)}.
+     *
+     * @param k          The maximum number of elements.
+     * @param comparator The order.
+     * @param <T>        The type of elements.
+     *
+     * @return The collector.
+     */
+    public static <T> Collector<T, ?, List<T>> topK(final int k, final Comparator<? super T> comparator) {
+      Arguments.requireGreaterOrSame(k, 0, "k");
+      Arguments.requireNotNull(comparator, "comparator");
+
+      return Collector.<T, PriorityQueue<T>, List<T>>of(
+          () -> new PriorityQueue<>(Math.max(1, Math.min(k, 1 << 10)), comparator),
+          (heap, element) -> offerBounded(heap, element, k, comparator),
+          (heap1, heap2) -> {
+            heap2.forEach(element -> offerBounded(heap1, element, k, comparator));
+
+            return heap1;
+          },
+          heap -> {
+            final List<T> list = new ArrayList<>(heap);
+
+            list.sort(comparator.reversed());
+
+            return list;
+          });
+    }
+
+    /**
+     * Creates a {@link Collector} that estimates the number of distinct elements with a {@link HyperLogLog} sketch of the default precision.
+     *
+     * @return The collector.
+     *
+     * @see #approximateDistinct(int)
+     */
+    public static Collector<Object, ?, Long> approximateDistinct() {
+      return approximateDistinct(HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a {@link Collector} that estimates the number of distinct elements with a {@link HyperLogLog} sketch.
+     * <p>
+     * Memory is {@code 2^precision} bytes per partial result, regardless of the number of elements.
+     *
+     * @param precision The sketch precision.
+     *
+     * @return The collector.
+     */
+    public static Collector<Object, ?, Long> approximateDistinct(final int precision) {
+      Arguments.requireGreaterOrSame(precision, HyperLogLog.MIN_PRECISION, "precision");
+      Arguments.requireLessOrSame(precision, HyperLogLog.MAX_PRECISION, "precision");
+
+      return Collector.of(
+          () -> new HyperLogLog(precision),
+          HyperLogLog::add,
+          HyperLogLog::merge,
+          HyperLogLog::estimate,
+          Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Creates a {@link Collector} that estimates quantiles with a {@link QuantileSketch} of the default size.
+     *
+     * @param fractions The ranks, as fractions from {@code 0} to {@code 1}.
+     *
+     * @return The collector.
+     *
+     * @see #quantiles(double[], int)
+     */
+    public static Collector<Number, ?, double[]> quantiles(final double... fractions) {
+      return quantiles(fractions, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Creates a {@link Collector} that estimates quantiles with a {@link QuantileSketch}.
+     * <p>
+     * Memory is {@code O(k)} per partial result, regardless of the number of elements.
+     *
+     * @param fractions The ranks, as fractions from {@code 0} to {@code 1}.
+     * @param k         The sketch size, which controls accuracy.
+     *
+     * @return The collector, which finishes with the estimated values in the order of {@code fractions}.
+     */
+    public static Collector<Number, ?, double[]> quantiles(final double[] fractions, final int k) {
+      Arguments.requireNotNull(fractions, "fractions");
+      Arguments.requireGreaterOrSame(k, QuantileSketch.MIN_K, "k");
+
+      final double[] fractionsCopy = fractions.clone();
+
+      for(final double fraction : fractionsCopy) {
+        Arguments.requireTrue(fraction >= 0 && fraction <= 1, "fractions");
+      }
+
+      return Collector.of(
+          () -> new QuantileSketch(k),
+          (sketch, number) -> sketch.add(number.doubleValue()),
+          QuantileSketch::merge,
+          sketch -> sketch.quantiles(fractionsCopy),
+          Collector.Characteristics.UNORDERED);
+    }
+
+    private static <T> void offerBounded(final PriorityQueue<T> heap, final T element, final int k, final Comparator<? super T> comparator) {
+      if(heap.size() < k) {
+        heap.offer(element);
+      } else if(k > 0 && comparator.compare(element, heap.peek()) > 0) {
+        heap.poll();
+        heap.offer(element);
+      }
+    }
+
+    /**
+     * Merges two partial results of {@link #toMap()}, such that entries of {@code right} take precedence, by inserting the smaller into the larger.
+     */
+    private static <K, V> Map<K, V> mergeMaps(final Map<K, V> left, final Map<K, V> right) {
+      if(left.size() >= right.size()) {
+        left.putAll(right);
+
+        return left;
+      }
+
+      for(final Map.Entry<K, V> entry : left.entrySet()) {
+        if(!right.containsKey(entry.getKey())) {
+          right.put(entry.getKey(), entry.getValue());
+        }
+      }
+
+      return right;
     }
 
     /**
@@ -103,6 +1016,285 @@ public final class StreamUtils {
       throw new UnsupportedInstantiationException();
     }
 
+    /**
+     * Result of {@link #toUnmodifiableMap()}.
+     * <p>
+     * Keys and values are interleaved in a single array and located by linear probing; the table is at most half full.
+     */
+    private static final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+      private static final Object NULL_KEY = new Object();
+
+      private CompactMap(final GrowableArray<Object> pairs) {
+        super();
+
+        final int pairCount = (pairs.size() >> 1);
+
+        if(pairCount > (1 << 28)) {
+          throw new OutOfMemoryError("Too many entries.");
+        }
+
+        int capacity = 2;
+
+        while(capacity < pairCount * 2L && capacity < (1 << 29)) {
+          capacity <<= 1;
+        }
+
+        this.table = new Object[capacity << 1];
+
+        int size = 0;
+
+        for(int i = 0; i < pairCount; i++) {
+          final Object key = maskNull(pairs.get(i << 1));
+          final int index = indexOf(key);
+
+          if(table[index] == null) {
+            table[index] = key;
+
+            size++;
+          }
+
+          table[index + 1] = pairs.get((i << 1) + 1);
+        }
+
+        this.size = size;
+      }
+
+      private final Object[] table;
+
+      private final int size;
+
+      private static Object maskNull(final Object key) {
+        return (key != null ? key : NULL_KEY);
+      }
+
+      private static Object unmaskNull(final Object key) {
+        return (key != NULL_KEY ? key : null);
+      }
+
+      /**
+       * Gets the index of the slot holding {@code key}, or of the empty slot where it would be placed.
+       */
+      private int indexOf(final Object key) {
+        final Object[] table = this.table;
+        final int mask = ((table.length >> 1) - 1);
+        final int hash = key.hashCode();
+
+        int i = ((hash ^ (hash >>> 16)) & mask);
+
+        while(true) {
+          final Object candidate = table[i << 1];
+
+          if(candidate == null || candidate == key || candidate.equals(key)) {
+            return (i << 1);
+          }
+
+          i = ((i + 1) & mask);
+        }
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public V get(final Object key) {
+        final int index = indexOf(maskNull(key));
+
+        return (table[index] != null ? (V)table[index + 1] : null);
+      }
+
+      @Override
+      public boolean containsKey(final Object key) {
+        return (table[indexOf(maskNull(key))] != null);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+          @Override
+          public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<>() {
+              private int index = nextIndex(0);
+
+              private int nextIndex(int index) {
+                while(index < table.length && table[index] == null) {
+                  index += 2;
+                }
+
+                return index;
+              }
+
+              @Override
+              public boolean hasNext() {
+                return (index < table.length);
+              }
+
+              @Override
+              @SuppressWarnings("unchecked")
+              public Entry<K, V> next() {
+                if(!hasNext()) {
+                  throw new NoSuchElementException();
+                }
+
+                final Entry<K, V> entry = new SimpleImmutableEntry<>((K)unmaskNull(table[index]), (V)table[index + 1]);
+
+                index = nextIndex(index + 2);
+
+                return entry;
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+            return size;
+          }
+        };
+      }
+
+    }
+
+    /**
+     * Accumulator of {@link #joining(CharSequence, CharSequence, CharSequence)}.
+     * <p>
+     * A chain of segment lists, so that partial results can be linked in constant time.
+     */
+    private static final class Joiner {
+
+      private Joiner() {
+        super();
+
+        this.tail = this;
+      }
+
+      private final GrowableArray<CharSequence> parts = new GrowableArray<>();
+
+      private long length;
+
+      private Joiner next;
+
+      private Joiner tail;
+
+      private void add(final CharSequence part) {
+        final CharSequence nonNullPart = String.valueOf(part);
+
+        parts.add(nonNullPart);
+
+        length += nonNullPart.length();
+      }
+
+      private Joiner link(final Joiner other) {
+        tail.next = other;
+        tail = other.tail;
+
+        return this;
+      }
+
+      private String join(final CharSequence delimiter, final CharSequence prefix, final CharSequence suffix) {
+        long count = 0;
+        long length = 0;
+
+        for(Joiner joiner = this; joiner != null; joiner = joiner.next) {
+          count += joiner.parts.size();
+          length += joiner.length;
+        }
+
+        length += (prefix.length() + suffix.length() + (count > 0 ? (count - 1) * delimiter.length() : 0));
+
+        if(length > Integer.MAX_VALUE) {
+          throw new OutOfMemoryError("Joined string is too long.");
+        }
+
+        final StringBuilder builder = new StringBuilder((int)length);
+
+        builder.append(prefix);
+
+        boolean first = true;
+
+        for(Joiner joiner = this; joiner != null; joiner = joiner.next) {
+          final GrowableArray<CharSequence> parts = joiner.parts;
+
+          for(int i = 0, size = parts.size(); i < size; i++) {
+            if(!first) {
+              builder.append(delimiter);
+            }
+
+            builder.append(parts.get(i));
+
+            first = false;
+          }
+        }
+
+        return builder.append(suffix).toString();
+      }
+
+    }
+
+    /**
+     * Accumulator of {@link #batching(int, Consumer)}.
+     */
+    private static final class Batcher<T> {
+
+      private Batcher(final int size, final Consumer<? super List<T>> consumer) {
+        super();
+
+        this.size = size;
+        this.consumer = consumer;
+      }
+
+      private final int size;
+
+      private final Consumer<? super List<T>> consumer;
+
+      private List<T> batch;
+
+      private long flushed;
+
+      private void add(final T element) {
+        if(batch == null) {
+          batch = new ArrayList<>(Math.min(size, 1 << 10));
+        }
+
+        batch.add(element);
+
+        if(batch.size() == size) {
+          flush();
+        }
+      }
+
+      private void flush() {
+        final List<T> batch = this.batch;
+
+        this.batch = null;
+
+        consumer.accept(batch);
+
+        flushed++;
+      }
+
+      private Batcher<T> combine(final Batcher<T> other) {
+        flushed += other.flushed;
+
+        if(other.batch != null) {
+          other.batch.forEach(this::add);
+        }
+
+        return this;
+      }
+
+      private Long finish() {
+        if(batch != null && !batch.isEmpty()) {
+          flush();
+        }
+
+        return flushed;
+      }
+
+    }
+
   }
 
   /**
@@ -113,10 +1305,101 @@ public final class StreamUtils {
   public static final class Iterators {
 
     /**
-     * TODO: Documentation.
+     * Drains a stream into an array and creates an {@link Iterator} over it in reverse encounter order.
+     *
+     * @param stream The source.
+     * @param <T>    The type of elements.
+     *
+     * @return The iterator.
      */
     public static <T> Iterator<T> reverseIterator(final Stream<T> stream) {
-      return stream.collect(java.util.stream.Collectors.toCollection(LinkedList::new)).descendingIterator();
+      Arguments.requireNotNull(stream, "stream");
+
+      return Spliterators.iterator(new DescendingArraySpliterator<T>(stream.toArray(), 0));
+    }
+
+    /**
+     * Drains an {@link IntStream} into an array and creates a {@link PrimitiveIterator.OfInt} over it in reverse encounter order, without
+     * boxing.
+     *
+     * @param stream The source.
+     *
+     * @return The iterator.
+     */
+    public static PrimitiveIterator.OfInt reverseIterator(final IntStream stream) {
+      Arguments.requireNotNull(stream, "stream");
+
+      return Spliterators.iterator(new DescendingArraySpliterator.OfInt(stream.toArray(), 0));
+    }
+
+    /**
+     * Drains a {@link LongStream} into an array and creates a {@link PrimitiveIterator.OfLong} over it in reverse encounter order, without
+     * boxing.
+     *
+     * @param stream The source.
+     *
+     * @return The iterator.
+     */
+    public static PrimitiveIterator.OfLong reverseIterator(final LongStream stream) {
+      Arguments.requireNotNull(stream, "stream");
+
+      return Spliterators.iterator(new DescendingArraySpliterator.OfLong(stream.toArray(), 0));
+    }
+
+    /**
+     * Drains a {@link DoubleStream} into an array and creates a {@link PrimitiveIterator.OfDouble} over it in reverse encounter order, without
+     * boxing.
+     *
+     * @param stream The source.
+     *
+     * @return The iterator.
+     */
+    public static PrimitiveIterator.OfDouble reverseIterator(final DoubleStream stream) {
+      Arguments.requireNotNull(stream, "stream");
+
+      return Spliterators.iterator(new DescendingArraySpliterator.OfDouble(stream.toArray(), 0));
+    }
+
+    /**
+     * Creates an {@link Iterator} over the elements of any number of iterators, one after another.
+     * <p>
+     * Iterators are consumed in order, and each is only requested from {@code iterators} once the previous one is exhausted.
+     *
+     * @param iterators The iterators.
+     * @param <T>       The type of elements.
+     *
+     * @return The iterator.
+     */
+    public static <T> Iterator<T> flatten(final Iterator<? extends Iterator<? extends T>> iterators) {
+      Arguments.requireNotNull(iterators, "iterators");
+
+      return new Iterator<>() {
+
+        private Iterator<? extends T> current = Collections.emptyIterator();
+
+        @Override
+        public boolean hasNext() {
+          while(!current.hasNext()) {
+            if(!iterators.hasNext()) {
+              return false;
+            }
+
+            current = Arguments.requireNotNull(iterators.next(), "iterator");
+          }
+
+          return true;
+        }
+
+        @Override
+        public T next() {
+          if(!hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          return current.next();
+        }
+
+      };
     }
 
     /**
@@ -130,6 +1413,66 @@ public final class StreamUtils {
 
   }
 
+  /**
+   * Accumulator of {@link #joinCodePoints(IntStream, int)} and {@link #joinChars(IntStream, int)}.
+   * <p>
+   * A chain of buffers, so that partial results can be linked in constant time.
+   */
+  private static final class StringChain {
+
+    private StringChain(final int capacity) {
+      super();
+
+      this.builder = new StringBuilder(capacity);
+      this.tail = this;
+    }
+
+    private final StringBuilder builder;
+
+    private StringChain next;
+
+    private StringChain tail;
+
+    private void appendCodePoint(final int codePoint) {
+      builder.appendCodePoint(codePoint);
+    }
+
+    private void appendChar(final int c) {
+      builder.append((char)c);
+    }
+
+    private void link(final StringChain other) {
+      tail.next = other;
+      tail = other.tail;
+    }
+
+    @Override
+    public String toString() {
+      if(next == null) {
+        return builder.toString();
+      }
+
+      long length = 0;
+
+      for(StringChain chain = this; chain != null; chain = chain.next) {
+        length += chain.builder.length();
+      }
+
+      if(length > Integer.MAX_VALUE) {
+        throw new OutOfMemoryError("Joined string is too long.");
+      }
+
+      final StringBuilder builder = new StringBuilder((int)length);
+
+      for(StringChain chain = this; chain != null; chain = chain.next) {
+        builder.append(chain.builder);
+      }
+
+      return builder.toString();
+    }
+
+  }
+
   /**
    * Default {@code private} constructor that throws a {@link UnsupportedInstantiationException} in case of reflection.
    */
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.array;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A view over a contiguous range of an {@code int} array.
+ * <p>
+ * The primitive counterpart of {@link ArraySlice}.
+ *
+ * @author Oliver Yasuna
+ * @see ArraySlice
+ */
+public class IntArraySlice {
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a mutable slice over an entire array.
+   *
+   * @param array The underlying array.
+   *
+   * @return The slice.
+   */
+  public static IntArraySlice of(final int[] array) {
+    Arguments.requireNotNull(array, "array");
+
+    return new IntArraySlice(array, 0, array.length, false);
+  }
+
+  /**
+   * Creates a mutable slice over a range of an array.
+   *
+   * @param array  The underlying array.
+   * @param offset The index of the first element.
+   * @param length The number of elements.
+   *
+   * @return The slice.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+   */
+  public static IntArraySlice of(final int[] array, final int offset, final int length) {
+    return new IntArraySlice(array, offset, length, false);
+  }
+
+  /**
+   * Creates a read-only slice over an entire array.
+   *
+   * @param array The underlying array.
+   *
+   * @return The slice.
+   */
+  public static IntArraySlice readOnly(final int[] array) {
+    Arguments.requireNotNull(array, "array");
+
+    return new IntArraySlice(array, 0, array.length, true);
+  }
+
+  /**
+   * Creates a read-only slice over a range of an array.
+   *
+   * @param array  The underlying array.
+   * @param offset The index of the first element.
+   * @param length The number of elements.
+   *
+   * @return The slice.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+   */
+  public static IntArraySlice readOnly(final int[] array, final int offset, final int length) {
+    return new IntArraySlice(array, offset, length, true);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param array    The underlying array.
+   * @param offset   The index of the first element.
+   * @param length   The number of elements.
+   * @param readOnly Whether writes are rejected.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+   */
+  protected IntArraySlice(final int[] array, final int offset, final int length, final boolean readOnly) {
+    super();
+
+    Arguments.requireNotNull(array, "array");
+    Objects.checkFromIndexSize(offset, length, array.length);
+
+    this.array = array;
+    this.offset = offset;
+    this.length = length;
+    this.readOnly = readOnly;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int[] array;
+
+  private final int offset;
+
+  private final int length;
+
+  private final boolean readOnly;
+
+  // Methods
+  //--------------------------------------------------
+
+  public int get(final int index) {
+    return array[offset + Objects.checkIndex(index, length)];
+  }
+
+  /**
+   * Replaces an element.
+   *
+   * @param index   The index within this slice.
+   * @param element The new element.
+   *
+   * @return The previous element.
+   *
+   * @throws UnsupportedOperationException If this slice is read-only.
+   */
+  public int set(final int index, final int element) {
+    requireWritable();
+
+    final int i = offset + Objects.checkIndex(index, length);
+    final int previous = array[i];
+
+    array[i] = element;
+
+    return previous;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  public boolean isEmpty() {
+    return (length == 0);
+  }
+
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Creates a slice over a range of this slice, sharing the same underlying array.
+   *
+   * @param fromIndex The index of the first element, inclusive.
+   * @param toIndex   The index of the last element, exclusive.
+   *
+   * @return The slice.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of this slice.
+   */
+  public IntArraySlice slice(final int fromIndex, final int toIndex) {
+    Objects.checkFromToIndex(fromIndex, toIndex, length);
+
+    return new IntArraySlice(array, offset + fromIndex, toIndex - fromIndex, readOnly);
+  }
+
+  /**
+   * Gets a read-only view of this slice.
+   *
+   * @return This slice, if it is already read-only; otherwise, a read-only slice over the same range.
+   */
+  public IntArraySlice asReadOnly() {
+    return (readOnly ? this : new IntArraySlice(array, offset, length, true));
+  }
+
+  /**
+   * Gets a fixed-size {@link List} view of this slice.
+   * <p>
+   * Elements are boxed on access, but never copied.
+   * {@link List#set(int, Object)} writes through if this slice is not read-only.
+   *
+   * @return The view.
+   */
+  public List<Integer> asList() {
+    return new ListView();
+  }
+
+  /**
+   * Copies the elements of this slice into a new array.
+   *
+   * @return The copy.
+   */
+  public int[] toArray() {
+    return Arrays.copyOfRange(array, offset, offset + length);
+  }
+
+  /**
+   * Copies the elements of this slice into an array.
+   *
+   * @param destination       The destination array.
+   * @param destinationOffset The index in the destination array to start at.
+   */
+  public void copyTo(final int[] destination, final int destinationOffset) {
+    System.arraycopy(array, offset, destination, destinationOffset, length);
+  }
+
+  public void fill(final int value) {
+    requireWritable();
+
+    Arrays.fill(array, offset, offset + length, value);
+  }
+
+  public IntStream stream() {
+    return StreamSupport.intStream(spliterator(), false);
+  }
+
+  public IntStream parallelStream() {
+    return StreamSupport.intStream(spliterator(), true);
+  }
+
+  public PrimitiveIterator.OfInt iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  public void forEach(final IntConsumer action) {
+    for(int i = offset, end = offset + length; i < end; i++) {
+      action.accept(array[i]);
+    }
+  }
+
+  /**
+   * Gets a {@link Spliterator.OfInt} over this slice.
+   * <p>
+   * Reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+   *
+   * @return The spliterator.
+   */
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(array, offset, offset + length, Spliterator.ORDERED);
+  }
+
+  private void requireWritable() {
+    if(readOnly) {
+      throw new UnsupportedOperationException("Read-only slice.");
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected int[] getArray() {
+    return array;
+  }
+
+  protected int getOffset() {
+    return offset;
+  }
+
+  // Object methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean equals(final Object other) {
+    if(this == other) return true;
+    if(!(other instanceof IntArraySlice)) return false;
+
+    final IntArraySlice otherSlice = (IntArraySlice)other;
+
+    return Arrays.equals(array, offset, offset + length, otherSlice.array, otherSlice.offset, otherSlice.offset + otherSlice.length);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+
+    for(int i = offset, end = offset + length; i < end; i++) {
+      hash = 31 * hash + Integer.hashCode(array[i]);
+    }
+
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return asList().toString();
+  }
+
+  private final class ListView extends AbstractList<Integer> implements RandomAccess {
+
+    @Override
+    public Integer get(final int index) {
+      return IntArraySlice.this.get(index);
+    }
+
+    @Override
+    public Integer set(final int index, final Integer element) {
+      return IntArraySlice.this.set(index, element);
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+
+  }
+
+}
@@ -2218,12 +2218,12 @@ public final class Conditions {
 
   public static <T> T[] requireNotContainsSame(final T[] array, final T unexpected, final String message,
                                                final Function<String, RuntimeException> exceptionSupplier) {
-    return requireContainsSame(array, unexpected, () -> message, exceptionSupplier);
+    return requireNotContainsSame(array, unexpected, () -> message, exceptionSupplier);
   }
 
   public static <T> T[] requireNotContainsSame(final T[] array, final T unexpected,
                                                final Function<String, RuntimeException> exceptionSupplier) {
-    return requireContainsSame(array, unexpected, () -> null, exceptionSupplier);
+    return requireNotContainsSame(array, unexpected, () -> null, exceptionSupplier);
   }
 
   // Iterable
@@ -18,6 +18,7 @@
 
 package com.oliveryasuna.commons.language.pattern.decorator;
 
+import com.oliveryasuna.commons.language.array.ArraySlice;
 import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.pattern.Cloneable;
 
@@ -63,6 +64,20 @@ public class ArrayDecorator<T> extends ObjectDecorator<T[]> implements Cloneable
     return get().length;
   }
 
+  /**
+   * Creates a view over a range of the underlying array without copying it.
+   *
+   * @param fromIndex The index of the first element, inclusive.
+   * @param toIndex   The index of the last element, exclusive.
+   *
+   * @return The slice.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+   */
+  public ArraySlice<T> slice(final int fromIndex, final int toIndex) {
+    return ArraySlice.of(get()).slice(fromIndex, toIndex);
+  }
+
   // Object methods
   //--------------------------------------------------
 
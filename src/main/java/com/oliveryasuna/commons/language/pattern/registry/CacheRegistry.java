@@ -0,0 +1,872 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Thread-safe implementation of {@link Registry} that is bounded, evicting entries to stay within a maximum weight.
+ * <p>
+ * Eviction follows W-TinyLFU: new entries enter a small LRU window, and leave it for a segmented LRU main space only if a frequency sketch
+ * estimates that they are used more often than the entry they would displace.
+ * This keeps hit rates high on workloads that mix recency, frequency and scans.
+ * Entries may also expire a fixed time after they were registered, or last read.
+ * <p>
+ * Reads are lock-free: the order of reads is recorded in a lossy buffer, and applied to the policy when the policy lock is free.
+ * Changes take the policy lock.
+ * Expired entries are removed when read, when evicted, or by {@link #cleanUp()}.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class CacheRegistry<K> implements Registry<K> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final byte WINDOW = 0;
+
+  private static final byte PROBATION = 1;
+
+  private static final byte PROTECTED = 2;
+
+  private static final byte REMOVED = 3;
+
+  private static final int READ_BUFFER_SIZE = 128;
+
+  /**
+   * One in how many reads attempts to apply the read buffer, minus one.
+   */
+  private static final int DRAIN_MASK = 15;
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a {@link CacheRegistry.Builder}.
+   *
+   * @param <K> The type of key.
+   *
+   * @return The builder.
+   */
+  public static <K> CacheRegistry.Builder<K> builder() {
+    return new CacheRegistry.Builder<>();
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  protected CacheRegistry(final CacheRegistry.Builder<K> builder) {
+    super();
+
+    this.maximumWeight = builder.maximumWeight;
+    this.weigher = builder.weigher;
+    this.expireAfterWrite = builder.expireAfterWrite;
+    this.expireAfterAccess = builder.expireAfterAccess;
+
+    this.windowMaximum = Math.max(1, maximumWeight / 100);
+    this.protectedMaximum = ((maximumWeight - windowMaximum) * 4 / 5);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final long maximumWeight;
+
+  private final ToIntBiFunction<? super K, Object> weigher;
+
+  /**
+   * The time-to-live after registration, in nanoseconds, or {@code 0}.
+   */
+  private final long expireAfterWrite;
+
+  /**
+   * The time-to-live after the last read, in nanoseconds, or {@code 0}.
+   */
+  private final long expireAfterAccess;
+
+  private final long windowMaximum;
+
+  private final long protectedMaximum;
+
+  private final ConcurrentHashMap<K, Node<K>> data = new ConcurrentHashMap<>();
+
+  /**
+   * Guards the policy: the queues, the sketch and the weights.
+   */
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final AtomicReferenceArray<Node<K>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+
+  private final FrequencySketch sketch = new FrequencySketch();
+
+  private final Queue<K> window = new Queue<>();
+
+  private final Queue<K> probation = new Queue<>();
+
+  private final Queue<K> protectedQueue = new Queue<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  private final LongAdder expirationCount = new LongAdder();
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The entry may later be evicted or expire.
+   * The {@link Registration} only unregisters this entry, not a later registration of the same key.
+   *
+   * @throws IllegalArgumentException If the key is registered, and has not expired.
+   */
+  @Override
+  public Registration register(final K key, final Object value) {
+    Arguments.requireNotNull(key, "key");
+    Arguments.requireNotNull(value, "value");
+
+    final int weight = weigher.applyAsInt(key, value);
+
+    Arguments.requireGreaterOrSame(weight, 0, "weight");
+
+    final long now = ticker();
+    final Node<K> node = new Node<>(key, value, weight, now);
+
+    lock.lock();
+
+    try {
+      final Node<K> existing = data.get(key);
+
+      if(existing != null) {
+        if(!isExpired(existing, now)) {
+          throw new IllegalArgumentException("Already registered.");
+        }
+
+        removeNode(existing);
+        expirationCount.increment();
+      }
+
+      data.put(key, node);
+
+      sketch.ensureCapacity(data.size());
+      sketch.increment(key);
+
+      node.queue = WINDOW;
+      window.addLast(node);
+
+      evict();
+    } finally {
+      lock.unlock();
+    }
+
+    return (() -> {
+      lock.lock();
+
+      try {
+        removeNode(node);
+      } finally {
+        lock.unlock();
+      }
+    });
+  }
+
+  @Override
+  public Object unregister(final K key) {
+    lock.lock();
+
+    try {
+      final Node<K> node = data.get(key);
+
+      if(node == null) {
+        throw new IllegalArgumentException("Not registered.");
+      }
+
+      removeNode(node);
+
+      if(isExpired(node, ticker())) {
+        expirationCount.increment();
+
+        throw new IllegalArgumentException("Not registered.");
+      }
+
+      return node.value;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public <V> V unregister(final K key, final Class<V> type) {
+    return type.cast(unregister(key));
+  }
+
+  @Override
+  public Optional<Object> forKey(final K key) {
+    return Optional.ofNullable(getOrNull(key));
+  }
+
+  @Override
+  public <V> Optional<V> forKey(final K key, final Class<V> type) {
+    return forKey(key)
+        .map(type::cast);
+  }
+
+  @Override
+  public Object getOrNull(final K key) {
+    final Node<K> node = data.get(key);
+
+    if(node == null) {
+      missCount.increment();
+
+      return null;
+    }
+
+    final long now = ticker();
+
+    if(isExpired(node, now)) {
+      missCount.increment();
+
+      expire(node);
+
+      return null;
+    }
+
+    hitCount.increment();
+
+    if(expireAfterAccess != 0) {
+      node.accessTime = now;
+    }
+
+    afterRead(node);
+
+    return node.value;
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final Object value = getOrNull(key);
+
+    return (value == null ? defaultValue : value);
+  }
+
+  @Override
+  public boolean getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Object value = getOrNull(key);
+
+    if(value == null) {
+      return false;
+    }
+
+    consumer.accept(value);
+
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Does not count as a read, for statistics or eviction.
+   */
+  @Override
+  public boolean contains(final K key) {
+    final Node<K> node = data.get(key);
+
+    return (node != null && !isExpired(node, ticker()));
+  }
+
+  /**
+   * Removes expired entries, and applies pending reads to the policy.
+   */
+  public void cleanUp() {
+    lock.lock();
+
+    try {
+      drainReadBuffer();
+
+      final long now = ticker();
+
+      for(final Node<K> node : data.values()) {
+        if(isExpired(node, now)) {
+          removeNode(node);
+          expirationCount.increment();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Gets the number of entries, including any that have expired but have not been removed.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    return data.size();
+  }
+
+  /**
+   * Gets the total weight of the entries.
+   *
+   * @return The weight.
+   */
+  public long getWeight() {
+    lock.lock();
+
+    try {
+      return (window.weight + probation.weight + protectedQueue.weight);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Gets the ratio of hits to lookups.
+   *
+   * @return The hit rate, or {@code 1} if there have been no lookups.
+   */
+  public double getHitRate() {
+    final long hits = hitCount.sum();
+    final long lookups = (hits + missCount.sum());
+
+    return (lookups == 0 ? 1.0 : (double)hits / lookups);
+  }
+
+  /**
+   * Gets the number of entries evicted to stay within the maximum weight.
+   *
+   * @return The number of evictions.
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * Gets the number of entries removed because they expired.
+   *
+   * @return The number of expirations.
+   */
+  public long getExpirationCount() {
+    return expirationCount.sum();
+  }
+
+  /**
+   * Gets the current time, in nanoseconds, for expiration.
+   *
+   * @return The time.
+   */
+  protected long ticker() {
+    return ((expireAfterWrite | expireAfterAccess) == 0 ? 0 : System.nanoTime());
+  }
+
+  private boolean isExpired(final Node<K> node, final long now) {
+    return ((expireAfterWrite != 0 && now - node.writeTime >= expireAfterWrite)
+        || (expireAfterAccess != 0 && now - node.accessTime >= expireAfterAccess));
+  }
+
+  private void expire(final Node<K> node) {
+    lock.lock();
+
+    try {
+      if(node.queue != REMOVED) {
+        removeNode(node);
+        expirationCount.increment();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Records a read in the lossy buffer, and occasionally applies the buffer if the lock is free.
+   */
+  private void afterRead(final Node<K> node) {
+    final int index = ThreadLocalRandom.current().nextInt();
+
+    readBuffer.lazySet(index & (READ_BUFFER_SIZE - 1), node);
+
+    if(((index >>> 7) & DRAIN_MASK) == 0 && lock.tryLock()) {
+      try {
+        drainReadBuffer();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  // Policy methods (lock held)
+  //
+
+  private void drainReadBuffer() {
+    for(int i = 0; i < READ_BUFFER_SIZE; i++) {
+      final Node<K> node = readBuffer.getAndSet(i, null);
+
+      if(node != null) {
+        onAccess(node);
+      }
+    }
+  }
+
+  private void onAccess(final Node<K> node) {
+    sketch.increment(node.key);
+
+    switch(node.queue) {
+      case WINDOW:
+        window.moveToLast(node);
+        break;
+      case PROBATION:
+        probation.remove(node);
+
+        node.queue = PROTECTED;
+        protectedQueue.addLast(node);
+
+        while(protectedQueue.weight > protectedMaximum && protectedQueue.head != node) {
+          final Node<K> demoted = protectedQueue.head;
+
+          protectedQueue.remove(demoted);
+
+          demoted.queue = PROBATION;
+          probation.addLast(demoted);
+        }
+
+        break;
+      case PROTECTED:
+        protectedQueue.moveToLast(node);
+        break;
+      default:
+        // Removed since the read.
+        break;
+    }
+  }
+
+  /**
+   * Moves entries that overflow the window to probation, then evicts until within the maximum weight, admitting each candidate from the
+   * window only if it is estimated to be used more often than the victim from probation.
+   */
+  private void evict() {
+    Node<K> candidate = null;
+
+    while(window.weight > windowMaximum && window.head != null) {
+      final Node<K> node = window.head;
+
+      window.remove(node);
+
+      node.queue = PROBATION;
+      probation.addLast(node);
+
+      if(candidate == null) {
+        candidate = node;
+      }
+    }
+
+    Node<K> victim = probation.head;
+
+    while(window.weight + probation.weight + protectedQueue.weight > maximumWeight) {
+      if(victim == candidate) {
+        candidate = null;
+      }
+
+      if(victim == null) {
+        final Node<K> evicted = (protectedQueue.head != null ? protectedQueue.head : window.head);
+
+        if(evicted == null) {
+          break;
+        }
+
+        evict(evicted);
+      } else if(candidate == null) {
+        final Node<K> next = victim.next;
+
+        evict(victim);
+
+        victim = next;
+      } else if(sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+        final Node<K> next = victim.next;
+
+        evict(victim);
+
+        victim = next;
+      } else {
+        final Node<K> next = candidate.next;
+
+        evict(candidate);
+
+        candidate = next;
+      }
+    }
+  }
+
+  private void evict(final Node<K> node) {
+    removeNode(node);
+    evictionCount.increment();
+  }
+
+  private void removeNode(final Node<K> node) {
+    data.remove(node.key, node);
+
+    switch(node.queue) {
+      case WINDOW:
+        window.remove(node);
+        break;
+      case PROBATION:
+        probation.remove(node);
+        break;
+      case PROTECTED:
+        protectedQueue.remove(node);
+        break;
+      default:
+        // Already removed.
+        break;
+    }
+
+    node.queue = REMOVED;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * Builds a {@link CacheRegistry}.
+   *
+   * @param <K> The type of key.
+   */
+  @com.oliveryasuna.commons.language.marker.Builder
+  public static class Builder<K> {
+
+    protected Builder() {
+      super();
+    }
+
+    private long maximumWeight = -1;
+
+    private ToIntBiFunction<? super K, Object> weigher = (key, value) -> 1;
+
+    private long expireAfterWrite;
+
+    private long expireAfterAccess;
+
+    /**
+     * Sets the maximum number of entries.
+     *
+     * @param maximumSize The maximum number of entries.
+     *
+     * @return This.
+     */
+    public CacheRegistry.Builder<K> maximumSize(final long maximumSize) {
+      Arguments.requireGreater(maximumSize, 0L, "maximumSize");
+
+      this.maximumWeight = maximumSize;
+      this.weigher = (key, value) -> 1;
+
+      return this;
+    }
+
+    /**
+     * Sets the maximum total weight of entries, and how to weigh them.
+     *
+     * @param maximumWeight The maximum weight.
+     * @param weigher       Weighs an entry; weights cannot be negative.
+     *
+     * @return This.
+     */
+    public CacheRegistry.Builder<K> maximumWeight(final long maximumWeight, final ToIntBiFunction<? super K, Object> weigher) {
+      Arguments.requireGreater(maximumWeight, 0L, "maximumWeight");
+
+      this.maximumWeight = maximumWeight;
+      this.weigher = Arguments.requireNotNull(weigher, "weigher");
+
+      return this;
+    }
+
+    /**
+     * Sets how long entries live after registration.
+     *
+     * @param duration The time-to-live.
+     *
+     * @return This.
+     */
+    public CacheRegistry.Builder<K> expireAfterWrite(final Duration duration) {
+      this.expireAfterWrite = toNanos(duration);
+
+      return this;
+    }
+
+    /**
+     * Sets how long entries live after registration or their last read.
+     *
+     * @param duration The time-to-live.
+     *
+     * @return This.
+     */
+    public CacheRegistry.Builder<K> expireAfterAccess(final Duration duration) {
+      this.expireAfterAccess = toNanos(duration);
+
+      return this;
+    }
+
+    public CacheRegistry<K> build() {
+      Arguments.requireTrue(maximumWeight > 0, "A maximum size or weight is required.");
+
+      return new CacheRegistry<>(this);
+    }
+
+    private static long toNanos(final Duration duration) {
+      Arguments.requireNotNull(duration, "duration");
+
+      return Arguments.requireGreater(duration.toNanos(), 0L, "duration");
+    }
+
+  }
+
+  /**
+   * An entry.
+   */
+  private static final class Node<K> {
+
+    private Node(final K key, final Object value, final int weight, final long now) {
+      super();
+
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+      this.writeTime = now;
+      this.accessTime = now;
+    }
+
+    private final K key;
+
+    private final Object value;
+
+    private final int weight;
+
+    private final long writeTime;
+
+    /**
+     * The time of the last read; racy, since it only needs to be approximately recent.
+     */
+    private volatile long accessTime;
+
+    /**
+     * The queue that contains this; guarded by the lock.
+     */
+    private byte queue;
+
+    private Node<K> prev;
+
+    private Node<K> next;
+
+  }
+
+  /**
+   * A doubly-linked queue in access order, least recent first, with its total weight; guarded by the lock.
+   */
+  private static final class Queue<K> {
+
+    private Queue() {
+      super();
+    }
+
+    private Node<K> head;
+
+    private Node<K> tail;
+
+    private long weight;
+
+    private void addLast(final Node<K> node) {
+      node.prev = tail;
+      node.next = null;
+
+      if(tail == null) {
+        head = node;
+      } else {
+        tail.next = node;
+      }
+
+      tail = node;
+      weight += node.weight;
+    }
+
+    private void remove(final Node<K> node) {
+      if(node.prev == null) {
+        head = node.next;
+      } else {
+        node.prev.next = node.next;
+      }
+
+      if(node.next == null) {
+        tail = node.prev;
+      } else {
+        node.next.prev = node.prev;
+      }
+
+      node.prev = null;
+      node.next = null;
+      weight -= node.weight;
+    }
+
+    private void moveToLast(final Node<K> node) {
+      if(node != tail) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+  }
+
+  /**
+   * A count-min sketch of 4-bit counters that estimates how often keys were used recently.
+   * <p>
+   * Sixteen counters are packed in each {@code long}, and there is one {@code long} per entry, so the sketch grows with the number of
+   * entries rather than the maximum weight.
+   * Counters are halved periodically, so that old popularity fades.
+   */
+  private static final class FrequencySketch {
+
+    private static final int MINIMUM_WIDTH = 16;
+
+    private static final int MAXIMUM_WIDTH = (1 << 30);
+
+    private static final long MAXIMUM_COUNT = 15L;
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final long[] SEEDS = {0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+
+    private FrequencySketch() {
+      super();
+
+      resize(MINIMUM_WIDTH);
+    }
+
+    private long[] table;
+
+    private long sampleSize;
+
+    private long additions;
+
+    /**
+     * Grows the table, if needed, to one {@code long} per entry.
+     * Growing forgets the counts so far, so it is done only when the number of entries passes a power of two.
+     */
+    private void ensureCapacity(final int size) {
+      if(size > table.length && table.length < MAXIMUM_WIDTH) {
+        resize(Math.min(Integer.highestOneBit(size - 1) << 1, MAXIMUM_WIDTH));
+      }
+    }
+
+    private void resize(final int width) {
+      this.table = new long[width];
+      this.sampleSize = (10L * width);
+      this.additions = 0;
+    }
+
+    private void increment(final Object key) {
+      final long hash = spread(key.hashCode());
+      final int start = (((int)hash & 3) << 2);
+      boolean added = false;
+
+      for(int i = 0; i < SEEDS.length; i++) {
+        final int index = index(hash, i);
+        final int shift = ((start + i) << 2);
+
+        if(((table[index] >>> shift) & MAXIMUM_COUNT) < MAXIMUM_COUNT) {
+          table[index] += (1L << shift);
+          added = true;
+        }
+      }
+
+      if(added && ++additions >= sampleSize) {
+        reset();
+      }
+    }
+
+    private int frequency(final Object key) {
+      final long hash = spread(key.hashCode());
+      final int start = (((int)hash & 3) << 2);
+      long frequency = MAXIMUM_COUNT;
+
+      for(int i = 0; i < SEEDS.length; i++) {
+        frequency = Math.min(frequency, (table[index(hash, i)] >>> ((start + i) << 2)) & MAXIMUM_COUNT);
+      }
+
+      return (int)frequency;
+    }
+
+    /**
+     * Gets the index of the {@code long} that holds the counter of a row.
+     * Each row uses a different one of the sixteen counters in its {@code long}.
+     */
+    private int index(final long hash, final int row) {
+      long h = (hash * SEEDS[row]);
+
+      h ^= (h >>> 32);
+
+      return ((int)h & (table.length - 1));
+    }
+
+    private void reset() {
+      for(int i = 0; i < table.length; i++) {
+        table[i] = ((table[i] >>> 1) & RESET_MASK);
+      }
+
+      additions /= 2;
+    }
+
+    private static long spread(final int hashCode) {
+      long h = (hashCode * 0x9E3779B97F4A7C15L);
+
+      h ^= (h >>> 29);
+
+      return h;
+    }
+
+  }
+
+}
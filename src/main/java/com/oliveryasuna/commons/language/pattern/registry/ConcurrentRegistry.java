@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe implementation of {@link Registry} using a {@link ConcurrentMap} to store registrations.
+ * <p>
+ * Each operation is a single atomic map operation, so concurrent registrations of the same key cannot both succeed, and there is one hash
+ * lookup per call.
+ * Values cannot be {@code null}.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class ConcurrentRegistry<K> extends MapRegistry<K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a new instance with a specific {@link ConcurrentMap} type.
+   *
+   * @param mapSupplier The type of {@link ConcurrentMap}.
+   */
+  public ConcurrentRegistry(final Supplier<? extends ConcurrentMap<K, Object>> mapSupplier) {
+    super(mapSupplier);
+  }
+
+  /**
+   * Creates a new instance with a {@link ConcurrentHashMap}.
+   *
+   * @see #ConcurrentRegistry(Supplier)
+   */
+  public ConcurrentRegistry() {
+    this(ConcurrentHashMap::new);
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@link Registration} only unregisters the entry if the key is still associated with {@code value}, so that it cannot remove a later
+   * registration of the same key.
+   */
+  @Override
+  public Registration register(final K key, final Object value) {
+    Arguments.requireNotNull(value, "value");
+
+    if(getRegistrations().putIfAbsent(key, value) != null) {
+      throw new IllegalArgumentException("Already registered.");
+    }
+
+    return (() -> getRegistrations().remove(key, value));
+  }
+
+  @Override
+  public Object unregister(final K key) {
+    final Object value = getRegistrations().remove(key);
+
+    if(value == null) {
+      throw new IllegalArgumentException("Not registered.");
+    }
+
+    return value;
+  }
+
+}
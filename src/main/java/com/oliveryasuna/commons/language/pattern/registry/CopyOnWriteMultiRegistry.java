@@ -0,0 +1,246 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe implementation of {@link MultiRegistry} optimized for reads, such as dispatching to listeners.
+ * <p>
+ * The values of each key are an immutable array that is replaced on every change, so lookups are a single lock-free map read, iterate over
+ * a snapshot that later changes do not affect, and allocate nothing for a key without values.
+ * Changes copy the values of their key, so they are {@code O(n)} in the number of values of the key.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class CopyOnWriteMultiRegistry<K> implements MultiRegistry<K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public CopyOnWriteMultiRegistry() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The underlying structure that stores the registrations.
+   * <p>
+   * Arrays are never empty, and never modified once stored.
+   */
+  private final ConcurrentHashMap<K, Object[]> registrations = new ConcurrentHashMap<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public Registration register(final K key, final Object value) {
+    registrations.merge(key, new Object[] {value}, (values, added) -> {
+      final Object[] result = Arrays.copyOf(values, values.length + 1);
+
+      result[values.length] = value;
+
+      return result;
+    });
+
+    return (() -> unregister(key, value));
+  }
+
+  @Override
+  public Iterator<Object> unregister(final K key) {
+    final Object[] values = registrations.remove(key);
+
+    return (values == null ? Collections.emptyIterator() : new SnapshotIterator(values));
+  }
+
+  @Override
+  public int unregisterAll(final K key) {
+    final Object[] values = registrations.remove(key);
+
+    return (values == null ? 0 : values.length);
+  }
+
+  @Override
+  public void unregister(final K key, final Object value) {
+    registrations.computeIfPresent(key, (k, values) -> {
+      for(int i = 0; i < values.length; i++) {
+        if(Objects.equals(value, values[i])) {
+          return remove(values, i);
+        }
+      }
+
+      return values;
+    });
+  }
+
+  @Override
+  public int unregisterAll(final K key, final Object value) {
+    final int[] count = new int[1];
+
+    registrations.computeIfPresent(key, (k, values) -> {
+      final Object[] result = new Object[values.length];
+      int size = 0;
+
+      for(final Object element : values) {
+        if(!Objects.equals(value, element)) {
+          result[size++] = element;
+        }
+      }
+
+      count[0] = (values.length - size);
+
+      if(size == values.length) {
+        return values;
+      }
+
+      return (size == 0 ? null : Arrays.copyOf(result, size));
+    });
+
+    return count[0];
+  }
+
+  @Override
+  public Iterator<Object> forKey(final K key) {
+    final Object[] values = registrations.get(key);
+
+    return (values == null ? Collections.emptyIterator() : new SnapshotIterator(values));
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final Object[] values = registrations.get(key);
+
+    return (values == null ? defaultValue : values[0]);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The values are a snapshot, so the consumer may change the registry.
+   */
+  @Override
+  public int getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Object[] values = registrations.get(key);
+
+    if(values == null) {
+      return 0;
+    }
+
+    for(final Object value : values) {
+      consumer.accept(value);
+    }
+
+    return values.length;
+  }
+
+  /**
+   * Performs an action for each value associated with a key, without allocating.
+   * <p>
+   * The values are a snapshot, so the action may change the registry.
+   *
+   * @param key    The key.
+   * @param action The action.
+   *
+   * @see #getInto(Object, Consumer)
+   */
+  public void forEach(final K key, final Consumer<Object> action) {
+    getInto(key, action);
+  }
+
+  @Override
+  public boolean contains(final K key) {
+    return registrations.containsKey(key);
+  }
+
+  @Override
+  public int count(final K key) {
+    final Object[] values = registrations.get(key);
+
+    return (values == null ? 0 : values.length);
+  }
+
+  /**
+   * Copies an array without an element, or returns {@code null} if none would remain, which removes the key.
+   */
+  private static Object[] remove(final Object[] values, final int index) {
+    if(values.length == 1) {
+      return null;
+    }
+
+    final Object[] result = new Object[values.length - 1];
+
+    System.arraycopy(values, 0, result, 0, index);
+    System.arraycopy(values, index + 1, result, index, result.length - index);
+
+    return result;
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected ConcurrentHashMap<K, Object[]> getRegistrations() {
+    return registrations;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * An unmodifiable {@link Iterator} over a snapshot.
+   */
+  private static final class SnapshotIterator implements Iterator<Object> {
+
+    private SnapshotIterator(final Object[] values) {
+      super();
+
+      this.values = values;
+    }
+
+    private final Object[] values;
+
+    private int index;
+
+    @Override
+    public boolean hasNext() {
+      return (index < values.length);
+    }
+
+    @Override
+    public Object next() {
+      if(index >= values.length) {
+        throw new NoSuchElementException();
+      }
+
+      return values[index++];
+    }
+
+  }
+
+}
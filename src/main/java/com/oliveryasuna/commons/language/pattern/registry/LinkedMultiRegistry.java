@@ -0,0 +1,335 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link MultiRegistry} that stores the values of each key in a linked list, so that a {@link Registration} removes its
+ * exact entry in {@code O(1)}.
+ * <p>
+ * Unlike other implementations, a {@link Registration} does not call {@link #unregister(Object, Object)}: it removes the entry it was
+ * created for, even if an equal value was registered earlier, and removing it again does nothing.
+ * Unregistering all entries of a key is also {@code O(1)}.
+ * Iterators are weakly consistent: they are not disturbed by removals, and support {@link Iterator#remove()}.
+ * <p>
+ * Not thread-safe.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class LinkedMultiRegistry<K> implements MultiRegistry<K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LinkedMultiRegistry() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The underlying structure that stores the registrations.
+   * <p>
+   * Lists are never empty.
+   */
+  private final Map<K, Entries> registrations = new HashMap<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public Registration register(final K key, final Object value) {
+    final Node node = registrations.computeIfAbsent(key, Entries::new).append(value);
+
+    return (() -> remove(node));
+  }
+
+  @Override
+  public Iterator<Object> unregister(final K key) {
+    final Entries entries = detach(key);
+
+    return (entries == null ? Collections.emptyIterator() : entries.iterator());
+  }
+
+  @Override
+  public int unregisterAll(final K key) {
+    final Entries entries = detach(key);
+
+    return (entries == null ? 0 : entries.size);
+  }
+
+  @Override
+  public void unregister(final K key, final Object value) {
+    final Entries entries = registrations.get(key);
+
+    if(entries == null) {
+      return;
+    }
+
+    for(Node node = entries.head; node != null; node = node.next) {
+      if(Objects.equals(value, node.value)) {
+        remove(node);
+
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int unregisterAll(final K key, final Object value) {
+    final Entries entries = registrations.get(key);
+
+    if(entries == null) {
+      return 0;
+    }
+
+    int count = 0;
+
+    for(Node node = entries.head; node != null; node = node.next) {
+      if(Objects.equals(value, node.value)) {
+        remove(node);
+
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  @Override
+  public Iterator<Object> forKey(final K key) {
+    final Entries entries = registrations.get(key);
+
+    return (entries == null ? Collections.emptyIterator() : entries.iterator());
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final Entries entries = registrations.get(key);
+
+    return (entries == null ? defaultValue : entries.head.value);
+  }
+
+  @Override
+  public int getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Entries entries = registrations.get(key);
+
+    if(entries == null) {
+      return 0;
+    }
+
+    int count = 0;
+
+    for(Node node = entries.head; node != null; node = node.next) {
+      consumer.accept(node.value);
+
+      count++;
+    }
+
+    return count;
+  }
+
+  @Override
+  public boolean contains(final K key) {
+    return registrations.containsKey(key);
+  }
+
+  @Override
+  public int count(final K key) {
+    final Entries entries = registrations.get(key);
+
+    return (entries == null ? 0 : entries.size);
+  }
+
+  /**
+   * Removes the list of a key, so that its nodes can no longer be removed individually.
+   */
+  private Entries detach(final K key) {
+    final Entries entries = registrations.remove(key);
+
+    if(entries != null) {
+      entries.detached = true;
+    }
+
+    return entries;
+  }
+
+  /**
+   * Removes a node, and its key if no values remain.
+   */
+  private void remove(final Node node) {
+    final Entries entries = node.entries;
+
+    if(entries == null || entries.detached) {
+      return;
+    }
+
+    entries.unlink(node);
+
+    if(entries.size == 0) {
+      registrations.remove(entries.key, entries);
+    }
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * The values of a key.
+   */
+  private final class Entries {
+
+    private Entries(final K key) {
+      super();
+
+      this.key = key;
+    }
+
+    private final K key;
+
+    private Node head;
+
+    private Node tail;
+
+    private int size;
+
+    /**
+     * Whether all entries were unregistered at once.
+     */
+    private boolean detached;
+
+    private Node append(final Object value) {
+      final Node node = new Node(this, value);
+
+      if(tail == null) {
+        head = node;
+      } else {
+        tail.next = node;
+        node.prev = tail;
+      }
+
+      tail = node;
+      size++;
+
+      return node;
+    }
+
+    /**
+     * Unlinks a node.
+     * <p>
+     * The node keeps its {@code next} link, so that iterators positioned on it can continue.
+     */
+    private void unlink(final Node node) {
+      if(node.prev == null) {
+        head = node.next;
+      } else {
+        node.prev.next = node.next;
+      }
+
+      if(node.next == null) {
+        tail = node.prev;
+      } else {
+        node.next.prev = node.prev;
+      }
+
+      node.entries = null;
+      node.prev = null;
+      size--;
+    }
+
+    private Iterator<Object> iterator() {
+      return new Iterator<>() {
+
+        private Node next = head;
+
+        private Node last;
+
+        @Override
+        public boolean hasNext() {
+          while(next != null && next.entries == null) {
+            next = next.next;
+          }
+
+          return (next != null);
+        }
+
+        @Override
+        public Object next() {
+          if(!hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          last = next;
+          next = next.next;
+
+          return last.value;
+        }
+
+        @Override
+        public void remove() {
+          if(last == null) {
+            throw new IllegalStateException();
+          }
+
+          LinkedMultiRegistry.this.remove(last);
+
+          last = null;
+        }
+
+      };
+    }
+
+  }
+
+  /**
+   * An entry.
+   */
+  private final class Node {
+
+    private Node(final Entries entries, final Object value) {
+      super();
+
+      this.entries = entries;
+      this.value = value;
+    }
+
+    private final Object value;
+
+    /**
+     * The list that contains this, or {@code null} once removed.
+     */
+    private Entries entries;
+
+    private Node prev;
+
+    private Node next;
+
+  }
+
+}
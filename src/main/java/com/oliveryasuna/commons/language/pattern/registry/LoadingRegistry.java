@@ -0,0 +1,251 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Factory;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Thread-safe implementation of {@link Registry} that can create missing values with a {@link Factory}, at most once per key at a time.
+ * <p>
+ * When several threads miss the same key, one creates the value, and the others wait for it, or share its {@link CompletableFuture}.
+ * No lock is held while a value is created, so other keys are not blocked.
+ * If creation fails, nothing is registered, every waiting thread receives the failure, and the next lookup tries again.
+ * A factory must not look up its own key.
+ * <p>
+ * Lookups other than {@link #forKey(Object, Factory)} and {@link #forKeyAsync(Object, Factory)} only see values that have been created.
+ * Values cannot be {@code null}; a factory that returns {@code null} registers nothing.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class LoadingRegistry<K> implements Registry<K> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public LoadingRegistry() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The underlying structure that stores the registrations, and the values being created.
+   */
+  private final ConcurrentHashMap<K, CompletableFuture<Object>> registrations = new ConcurrentHashMap<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@link Registration} only unregisters this entry, not a later registration of the same key.
+   *
+   * @throws IllegalArgumentException If the key is registered, or its value is being created.
+   */
+  @Override
+  public Registration register(final K key, final Object value) {
+    Arguments.requireNotNull(value, "value");
+
+    final CompletableFuture<Object> future = CompletableFuture.completedFuture(value);
+
+    if(registrations.putIfAbsent(key, future) != null) {
+      throw new IllegalArgumentException("Already registered.");
+    }
+
+    return (() -> registrations.remove(key, future));
+  }
+
+  @Override
+  public Object unregister(final K key) {
+    final CompletableFuture<Object> future = registrations.get(key);
+
+    if(!isCreated(future) || !registrations.remove(key, future)) {
+      throw new IllegalArgumentException("Not registered.");
+    }
+
+    return future.join();
+  }
+
+  @Override
+  public <V> V unregister(final K key, final Class<V> type) {
+    return type.cast(unregister(key));
+  }
+
+  @Override
+  public Optional<Object> forKey(final K key) {
+    return Optional.ofNullable(getOrNull(key));
+  }
+
+  @Override
+  public <V> Optional<V> forKey(final K key, final Class<V> type) {
+    return forKey(key)
+        .map(type::cast);
+  }
+
+  /**
+   * Gets the value associated with an entry by its key, creating it if there is no such entry.
+   * <p>
+   * If another thread is creating the value, waits for it.
+   *
+   * @param key     The entry key.
+   * @param factory Creates the value from the key.
+   * @param <V>     The type of entry value.
+   *
+   * @return The value, or {@code null} if the factory returned {@code null}.
+   *
+   * @throws ClassCastException If the value was registered with a different type.
+   */
+  public <V> V forKey(final K key, final Factory<? extends V, ? super K> factory) {
+    final CompletableFuture<V> future = forKeyAsync(key, factory);
+
+    try {
+      return future.join();
+    } catch(final CompletionException e) {
+      if(e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException)e.getCause();
+      } else if(e.getCause() instanceof Error) {
+        throw (Error)e.getCause();
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the value associated with an entry by its key, creating it on the calling thread if there is no such entry.
+   * <p>
+   * If another thread is creating the value, returns a future that completes when it does.
+   *
+   * @param key     The entry key.
+   * @param factory Creates the value from the key.
+   * @param <V>     The type of entry value.
+   *
+   * @return A future of the value, or of {@code null} if the factory returned {@code null}.
+   */
+  public <V> CompletableFuture<V> forKeyAsync(final K key, final Factory<? extends V, ? super K> factory) {
+    return load(key, factory, null);
+  }
+
+  /**
+   * Gets the value associated with an entry by its key, creating it on an {@link Executor} if there is no such entry.
+   * <p>
+   * If another thread is creating the value, returns a future that completes when it does.
+   *
+   * @param key      The entry key.
+   * @param factory  Creates the value from the key.
+   * @param executor Runs the factory.
+   * @param <V>      The type of entry value.
+   *
+   * @return A future of the value, or of {@code null} if the factory returned {@code null}.
+   */
+  public <V> CompletableFuture<V> forKeyAsync(final K key, final Factory<? extends V, ? super K> factory, final Executor executor) {
+    return load(key, factory, Arguments.requireNotNull(executor, "executor"));
+  }
+
+  @Override
+  public Object getOrNull(final K key) {
+    final CompletableFuture<Object> future = registrations.get(key);
+
+    return (isCreated(future) ? future.join() : null);
+  }
+
+  @Override
+  public boolean contains(final K key) {
+    return isCreated(registrations.get(key));
+  }
+
+  /**
+   * Gets whether a key is registered, or its value is being created.
+   *
+   * @param key The key.
+   *
+   * @return {@code true}, if the key is registered or being created; otherwise, {@code false}.
+   */
+  public boolean containsOrCreating(final K key) {
+    return registrations.containsKey(key);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <V> CompletableFuture<V> load(final K key, final Factory<? extends V, ? super K> factory, final Executor executor) {
+    Arguments.requireNotNull(key, "key");
+    Arguments.requireNotNull(factory, "factory");
+
+    CompletableFuture<Object> future = registrations.get(key);
+
+    if(future == null) {
+      final CompletableFuture<Object> created = new CompletableFuture<>();
+
+      future = registrations.putIfAbsent(key, created);
+
+      if(future == null) {
+        if(executor == null) {
+          create(key, factory, created);
+        } else {
+          try {
+            executor.execute(() -> create(key, factory, created));
+          } catch(final RuntimeException e) {
+            registrations.remove(key, created);
+            created.completeExceptionally(e);
+          }
+        }
+
+        future = created;
+      }
+    }
+
+    // A copy, so that callers cannot complete or cancel the shared future.
+    return (CompletableFuture<V>)future.copy();
+  }
+
+  private void create(final K key, final Factory<?, ? super K> factory, final CompletableFuture<Object> future) {
+    final Object value;
+
+    try {
+      value = factory.create(key);
+    } catch(final Throwable e) {
+      registrations.remove(key, future);
+      future.completeExceptionally(e);
+
+      return;
+    }
+
+    if(value == null) {
+      registrations.remove(key, future);
+    }
+
+    future.complete(value);
+  }
+
+  private static boolean isCreated(final CompletableFuture<Object> future) {
+    return (future != null && future.isDone() && !future.isCompletedExceptionally());
+  }
+
+}
@@ -22,8 +22,11 @@ import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.pattern.Registration;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -78,11 +81,16 @@ public class MapMultiRegistry<K, V extends Collection<Object>> implements MultiR
 
   @Override
   public Iterator<Object> unregister(final K key) {
-    final Iterator<Object> values = forKey(key);
+    final V values = getRegistrations().remove(key);
 
-    values.forEachRemaining(value -> unregister(key, value));
+    return (values == null ? Collections.emptyIterator() : values.iterator());
+  }
+
+  @Override
+  public int unregisterAll(final K key) {
+    final V values = getRegistrations().remove(key);
 
-    return values;
+    return (values == null ? 0 : values.size());
   }
 
   @Override
@@ -125,7 +133,36 @@ public class MapMultiRegistry<K, V extends Collection<Object>> implements MultiR
 
   @Override
   public Iterator<Object> forKey(final K key) {
-    return getRegistrations().getOrDefault(key, getValuesSupplier().get()).iterator();
+    final V values = getRegistrations().get(key);
+
+    return (values == null ? Collections.emptyIterator() : values.iterator());
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final V values = getRegistrations().get(key);
+
+    if(values == null || values.isEmpty()) {
+      return defaultValue;
+    }
+
+    // Lists, the usual values, are read without allocating an iterator.
+    return (values instanceof List ? ((List<Object>)values).get(0) : values.iterator().next());
+  }
+
+  @Override
+  public int getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final V values = getRegistrations().get(key);
+
+    if(values == null) {
+      return 0;
+    }
+
+    values.forEach(consumer);
+
+    return values.size();
   }
 
   @Override
@@ -135,13 +172,9 @@ public class MapMultiRegistry<K, V extends Collection<Object>> implements MultiR
 
   @Override
   public int count(final K key) {
-    final Map<K, V> registrations = getRegistrations();
+    final V values = getRegistrations().get(key);
 
-    if(registrations.containsKey(key)) {
-      return registrations.get(key).size();
-    } else {
-      return 0;
-    }
+    return (values == null ? 0 : values.size());
   }
 
   // Getters/setters
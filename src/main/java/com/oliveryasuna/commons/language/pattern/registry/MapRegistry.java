@@ -24,6 +24,7 @@ import com.oliveryasuna.commons.language.pattern.Registration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -106,13 +107,34 @@ public class MapRegistry<K> implements Registry<K> {
 
   @Override
   public Optional<Object> forKey(final K key) {
-    final Map<K, Object> registrations = getRegistrations();
+    return Optional.ofNullable(getRegistrations().get(key));
+  }
 
-    if(registrations.containsKey(key)) {
-      return Optional.of(registrations.get(key));
-    } else {
-      return Optional.empty();
+  @Override
+  public Object getOrNull(final K key) {
+    return getRegistrations().get(key);
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final Object value = getRegistrations().get(key);
+
+    return (value != null ? value : defaultValue);
+  }
+
+  @Override
+  public boolean getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Object value = getRegistrations().get(key);
+
+    if(value == null) {
+      return false;
     }
+
+    consumer.accept(value);
+
+    return true;
   }
 
   @Override
@@ -18,9 +18,11 @@
 
 package com.oliveryasuna.commons.language.pattern.registry;
 
+import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.pattern.Registration;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
 
 /**
  * Represents a registry that can store one-or-more values per key.
@@ -55,6 +57,23 @@ public interface MultiRegistry<K> {
    */
   Iterator<Object> unregister(K key);
 
+  /**
+   * Unregisters all entries with the specified key.
+   *
+   * @param key The key.
+   *
+   * @return The number of entries unregistered.
+   */
+  default int unregisterAll(final K key) {
+    int count = 0;
+
+    for(final Iterator<Object> values = unregister(key); values.hasNext(); values.next()) {
+      count++;
+    }
+
+    return count;
+  }
+
   /**
    * Unregisters the entry with the specified key and value.
    *
@@ -80,6 +99,55 @@ public interface MultiRegistry<K> {
    */
   Iterator<Object> forKey(K key);
 
+  /**
+   * Gets the first value associated with entries by their key.
+   *
+   * @param key The key.
+   *
+   * @return The first value, or {@code null} if there is no entry with the key.
+   */
+  default Object getOrNull(final K key) {
+    return getOrDefault(key, null);
+  }
+
+  /**
+   * Gets the first value associated with entries by their key.
+   *
+   * @param key          The key.
+   * @param defaultValue The value to return if there is no entry with the key.
+   *
+   * @return The first value, or {@code defaultValue} if there is no entry with the key.
+   */
+  default Object getOrDefault(final K key, final Object defaultValue) {
+    final Iterator<Object> values = forKey(key);
+
+    return (values.hasNext() ? values.next() : defaultValue);
+  }
+
+  /**
+   * Passes every value associated with entries by their key to a {@link Consumer}.
+   * <p>
+   * The default implementation iterates {@link #forKey(Object)}; implementations may override it to avoid allocating an {@link Iterator}.
+   *
+   * @param key      The key.
+   * @param consumer The consumer.
+   *
+   * @return The number of values passed.
+   */
+  default int getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    int count = 0;
+
+    for(final Iterator<Object> values = forKey(key); values.hasNext(); ) {
+      consumer.accept(values.next());
+
+      count++;
+    }
+
+    return count;
+  }
+
   /**
    * Gets whether an entry exists associated with a specified key.
    *
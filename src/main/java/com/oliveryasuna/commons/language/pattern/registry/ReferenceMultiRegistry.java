@@ -0,0 +1,380 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe implementation of {@link MultiRegistry} that holds its values by weak or soft references, so that a value that nothing else
+ * holds is unregistered automatically.
+ * <p>
+ * Reclaimed entries are removed on later calls, a bounded number per call, without a background thread.
+ * As with {@link CopyOnWriteMultiRegistry}, the values of each key are an immutable array, so lookups iterate over a snapshot.
+ * Values cannot be {@code null}.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class ReferenceMultiRegistry<K> implements MultiRegistry<K> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The maximum number of reclaimed entries removed per call.
+   */
+  private static final int EXPUNGE_LIMIT = 64;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a new instance.
+   *
+   * @param strength How strongly to hold values.
+   */
+  public ReferenceMultiRegistry(final ReferenceStrength strength) {
+    super();
+
+    this.strength = Arguments.requireNotNull(strength, "strength");
+  }
+
+  /**
+   * Creates a new instance that holds values weakly.
+   *
+   * @see #ReferenceMultiRegistry(ReferenceStrength)
+   */
+  public ReferenceMultiRegistry() {
+    this(ReferenceStrength.WEAK);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ReferenceStrength strength;
+
+  /**
+   * The underlying structure that stores the registrations.
+   * <p>
+   * Arrays are never empty, and never modified once stored.
+   */
+  private final ConcurrentHashMap<K, Reference<Object>[]> registrations = new ConcurrentHashMap<>();
+
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@link Registration} unregisters exactly this entry.
+   */
+  @Override
+  public Registration register(final K key, final Object value) {
+    Arguments.requireNotNull(key, "key");
+    Arguments.requireNotNull(value, "value");
+
+    expunge();
+
+    final Reference<Object> reference = strength.newReference(key, value, queue);
+
+    final Reference<Object>[] single = newArray(1);
+
+    single[0] = reference;
+
+    registrations.merge(key, single, (references, added) -> {
+      final Reference<Object>[] result = Arrays.copyOf(references, references.length + 1);
+
+      result[references.length] = reference;
+
+      return result;
+    });
+
+    return (() -> remove(key, reference));
+  }
+
+  @Override
+  public Iterator<Object> unregister(final K key) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.remove(key);
+
+    return (references == null ? Collections.emptyIterator() : new ValueIterator(references));
+  }
+
+  @Override
+  public int unregisterAll(final K key) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.remove(key);
+
+    return (references == null ? 0 : count(references));
+  }
+
+  @Override
+  public void unregister(final K key, final Object value) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.get(key);
+
+    if(references == null) {
+      return;
+    }
+
+    for(final Reference<Object> reference : references) {
+      if(Objects.equals(value, reference.get())) {
+        remove(key, reference);
+
+        return;
+      }
+    }
+  }
+
+  @Override
+  public int unregisterAll(final K key, final Object value) {
+    expunge();
+
+    final int[] count = new int[1];
+
+    registrations.computeIfPresent(key, (k, references) -> {
+      final List<Reference<Object>> result = new ArrayList<>(references.length);
+
+      for(final Reference<Object> reference : references) {
+        if(Objects.equals(value, reference.get())) {
+          count[0]++;
+        } else {
+          result.add(reference);
+        }
+      }
+
+      return toArray(references, result);
+    });
+
+    return count[0];
+  }
+
+  @Override
+  public Iterator<Object> forKey(final K key) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.get(key);
+
+    return (references == null ? Collections.emptyIterator() : new ValueIterator(references));
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.get(key);
+
+    if(references != null) {
+      for(final Reference<Object> reference : references) {
+        final Object value = reference.get();
+
+        if(value != null) {
+          return value;
+        }
+      }
+    }
+
+    return defaultValue;
+  }
+
+  @Override
+  public int getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    expunge();
+
+    final Reference<Object>[] references = registrations.get(key);
+
+    if(references == null) {
+      return 0;
+    }
+
+    int count = 0;
+
+    for(final Reference<Object> reference : references) {
+      final Object value = reference.get();
+
+      if(value != null) {
+        consumer.accept(value);
+
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  @Override
+  public boolean contains(final K key) {
+    return (count(key) > 0);
+  }
+
+  @Override
+  public int count(final K key) {
+    expunge();
+
+    final Reference<Object>[] references = registrations.get(key);
+
+    return (references == null ? 0 : count(references));
+  }
+
+  /**
+   * Removes entries whose values have been reclaimed, from up to a limited number of keys.
+   */
+  protected void expunge() {
+    Reference<?> reference = queue.poll();
+
+    if(reference == null) {
+      return;
+    }
+
+    final Set<K> keys = new HashSet<>();
+    int count = 0;
+
+    do {
+      keys.add(ReferenceStrength.keyOf(reference));
+    } while(++count < EXPUNGE_LIMIT && (reference = queue.poll()) != null);
+
+    for(final K key : keys) {
+      registrations.computeIfPresent(key, (k, references) -> {
+        final List<Reference<Object>> result = new ArrayList<>(references.length);
+
+        for(final Reference<Object> element : references) {
+          if(element.get() != null) {
+            result.add(element);
+          }
+        }
+
+        return toArray(references, result);
+      });
+    }
+  }
+
+  /**
+   * Removes a reference by identity, and the key if no references remain.
+   */
+  private void remove(final K key, final Reference<?> reference) {
+    registrations.computeIfPresent(key, (k, references) -> {
+      final List<Reference<Object>> result = new ArrayList<>(references.length);
+
+      for(final Reference<Object> element : references) {
+        if(element != reference) {
+          result.add(element);
+        }
+      }
+
+      return toArray(references, result);
+    });
+  }
+
+  /**
+   * Converts the remaining references to an array, reusing the original if nothing was removed, or returns {@code null} if none remain.
+   */
+  private static Reference<Object>[] toArray(final Reference<Object>[] references, final List<Reference<Object>> result) {
+    if(result.size() == references.length) {
+      return references;
+    }
+
+    return (result.isEmpty() ? null : result.toArray(newArray(result.size())));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Reference<Object>[] newArray(final int length) {
+    return new Reference[length];
+  }
+
+  private static int count(final Reference<Object>[] references) {
+    int count = 0;
+
+    for(final Reference<Object> reference : references) {
+      if(reference.get() != null) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public ReferenceStrength getStrength() {
+    return strength;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * An unmodifiable {@link Iterator} over the values of a snapshot that have not been reclaimed.
+   * <p>
+   * Holds the next value strongly, so that it cannot be reclaimed between {@link #hasNext()} and {@link #next()}.
+   */
+  private static final class ValueIterator implements Iterator<Object> {
+
+    private ValueIterator(final Reference<Object>[] references) {
+      super();
+
+      this.references = references;
+    }
+
+    private final Reference<Object>[] references;
+
+    private int index;
+
+    private Object next;
+
+    @Override
+    public boolean hasNext() {
+      while(next == null && index < references.length) {
+        next = references[index++].get();
+      }
+
+      return (next != null);
+    }
+
+    @Override
+    public Object next() {
+      if(!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      final Object value = next;
+
+      next = null;
+
+      return value;
+    }
+
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe implementation of {@link Registry} that holds its values by weak or soft references, so that a value that nothing else holds
+ * is unregistered automatically.
+ * <p>
+ * Reclaimed entries are removed on later calls, a bounded number per call, without a background thread.
+ * Values cannot be {@code null}.
+ * <p>
+ * To hold keys weakly instead, use a {@link MapRegistry} with a {@link java.util.WeakHashMap}, provided that values do not hold their keys.
+ *
+ * @param <K> The type of key.
+ *
+ * @author Oliver Yasuna
+ */
+public class ReferenceRegistry<K> implements Registry<K> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The maximum number of reclaimed entries removed per call.
+   */
+  private static final int EXPUNGE_LIMIT = 64;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates a new instance.
+   *
+   * @param strength How strongly to hold values.
+   */
+  public ReferenceRegistry(final ReferenceStrength strength) {
+    super();
+
+    this.strength = Arguments.requireNotNull(strength, "strength");
+  }
+
+  /**
+   * Creates a new instance that holds values weakly.
+   *
+   * @see #ReferenceRegistry(ReferenceStrength)
+   */
+  public ReferenceRegistry() {
+    this(ReferenceStrength.WEAK);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final ReferenceStrength strength;
+
+  /**
+   * The underlying structure that stores the registrations.
+   */
+  private final ConcurrentHashMap<K, Reference<Object>> registrations = new ConcurrentHashMap<>();
+
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The {@link Registration} only unregisters this entry, not a later registration of the same key.
+   */
+  @Override
+  public Registration register(final K key, final Object value) {
+    Arguments.requireNotNull(key, "key");
+    Arguments.requireNotNull(value, "value");
+
+    expunge();
+
+    final Reference<Object> reference = strength.newReference(key, value, queue);
+
+    registrations.compute(key, (k, previous) -> {
+      if(previous != null && previous.get() != null) {
+        throw new IllegalArgumentException("Already registered.");
+      }
+
+      return reference;
+    });
+
+    return (() -> registrations.remove(key, reference));
+  }
+
+  @Override
+  public Object unregister(final K key) {
+    expunge();
+
+    final Reference<Object> reference = registrations.remove(key);
+    final Object value = (reference == null ? null : reference.get());
+
+    if(value == null) {
+      throw new IllegalArgumentException("Not registered.");
+    }
+
+    return value;
+  }
+
+  @Override
+  public <V> V unregister(final K key, final Class<V> type) {
+    return type.cast(unregister(key));
+  }
+
+  @Override
+  public Optional<Object> forKey(final K key) {
+    return Optional.ofNullable(getOrNull(key));
+  }
+
+  @Override
+  public <V> Optional<V> forKey(final K key, final Class<V> type) {
+    return forKey(key)
+        .map(type::cast);
+  }
+
+  @Override
+  public Object getOrNull(final K key) {
+    expunge();
+
+    final Reference<Object> reference = registrations.get(key);
+
+    return (reference == null ? null : reference.get());
+  }
+
+  @Override
+  public Object getOrDefault(final K key, final Object defaultValue) {
+    final Object value = getOrNull(key);
+
+    return (value == null ? defaultValue : value);
+  }
+
+  @Override
+  public boolean getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Object value = getOrNull(key);
+
+    if(value == null) {
+      return false;
+    }
+
+    consumer.accept(value);
+
+    return true;
+  }
+
+  @Override
+  public boolean contains(final K key) {
+    return (getOrNull(key) != null);
+  }
+
+  /**
+   * Removes entries whose values have been reclaimed, up to a limit.
+   */
+  protected void expunge() {
+    Reference<?> reference;
+
+    for(int i = 0; i < EXPUNGE_LIMIT && (reference = queue.poll()) != null; i++) {
+      registrations.remove(ReferenceStrength.<K>keyOf(reference), reference);
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  public ReferenceStrength getStrength() {
+    return strength;
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * How strongly a reference registry holds its values.
+ *
+ * @author Oliver Yasuna
+ * @see ReferenceRegistry
+ * @see ReferenceMultiRegistry
+ */
+public enum ReferenceStrength {
+
+  /**
+   * Values are held by {@link WeakReference}s, so they are reclaimed as soon as nothing else holds them.
+   */
+  WEAK {
+    @Override
+    <K> Reference<Object> newReference(final K key, final Object value, final ReferenceQueue<Object> queue) {
+      return new WeakValue<>(key, value, queue);
+    }
+  },
+
+  /**
+   * Values are held by {@link SoftReference}s, so they are reclaimed only when memory is low.
+   */
+  SOFT {
+    @Override
+    <K> Reference<Object> newReference(final K key, final Object value, final ReferenceQueue<Object> queue) {
+      return new SoftValue<>(key, value, queue);
+    }
+  };
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Creates a reference to a value that remembers its key, so that it can be removed once it is enqueued.
+   */
+  abstract <K> Reference<Object> newReference(K key, Object value, ReferenceQueue<Object> queue);
+
+  /**
+   * Gets the key of a reference created by {@link #newReference(Object, Object, ReferenceQueue)}.
+   */
+  @SuppressWarnings("unchecked")
+  static <K> K keyOf(final Reference<?> reference) {
+    return ((Keyed<K>)reference).key();
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private interface Keyed<K> {
+
+    K key();
+
+  }
+
+  private static final class WeakValue<K> extends WeakReference<Object> implements Keyed<K> {
+
+    private WeakValue(final K key, final Object value, final ReferenceQueue<Object> queue) {
+      super(value, queue);
+
+      this.key = key;
+    }
+
+    private final K key;
+
+    @Override
+    public K key() {
+      return key;
+    }
+
+  }
+
+  private static final class SoftValue<K> extends SoftReference<Object> implements Keyed<K> {
+
+    private SoftValue(final K key, final Object value, final ReferenceQueue<Object> queue) {
+      super(value, queue);
+
+      this.key = key;
+    }
+
+    private final K key;
+
+    @Override
+    public K key() {
+      return key;
+    }
+
+  }
+
+}
@@ -18,9 +18,11 @@
 
 package com.oliveryasuna.commons.language.pattern.registry;
 
+import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.pattern.Registration;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Represents a registry.
@@ -90,6 +92,65 @@ public interface Registry<K> {
    */
   <V> Optional<V> forKey(K key, Class<V> type);
 
+  /**
+   * Gets the value associated with an entry by its key.
+   * <p>
+   * As with {@link #forKey(Object)}, an entry whose value is {@code null} is treated as absent.
+   * The default implementation calls {@link #forKey(Object)}; implementations may override it to avoid allocating an {@link Optional}.
+   *
+   * @param key The entry key.
+   *
+   * @return The value, or {@code null} if there is no entry with the key.
+   */
+  default Object getOrNull(final K key) {
+    return forKey(key).orElse(null);
+  }
+
+  /**
+   * Gets the value associated with an entry by its key, as by {@link #getOrNull(Object)}.
+   *
+   * @param key  The entry key.
+   * @param type The class type of entry value.
+   * @param <V>  The type of entry value.
+   *
+   * @return The value, or {@code null} if there is no entry with the key.
+   *
+   * @throws ClassCastException If the value cannot be cast to the type specified by argument {@code type}.
+   */
+  default <V> V getOrNull(final K key, final Class<V> type) {
+    return type.cast(getOrNull(key));
+  }
+
+  /**
+   * Gets the value associated with an entry by its key, or a default, as by {@link #getOrNull(Object)}.
+   *
+   * @param key          The entry key.
+   * @param defaultValue The value to return if there is no entry with the key.
+   *
+   * @return The value, or {@code defaultValue} if there is no entry with the key.
+   */
+  default Object getOrDefault(final K key, final Object defaultValue) {
+    return forKey(key).orElse(defaultValue);
+  }
+
+  /**
+   * Passes the value associated with an entry by its key to a {@link Consumer}, if there is such an entry, as by {@link #getOrNull(Object)}.
+   *
+   * @param key      The entry key.
+   * @param consumer The consumer.
+   *
+   * @return {@code true}, if there is an entry with the key; otherwise, {@code false}.
+   */
+  default boolean getInto(final K key, final Consumer<Object> consumer) {
+    Arguments.requireNotNull(consumer, "consumer");
+
+    final Optional<Object> value = forKey(key);
+
+    value.ifPresent(consumer);
+
+    return value.isPresent();
+  }
+
   /**
    * Gets whether an entry exists associated with a specified key.
    *
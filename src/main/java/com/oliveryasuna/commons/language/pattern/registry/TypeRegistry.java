@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.pattern.Registration;
+
+import java.util.*;
+
+/**
+ * Implementation of {@link Registry} keyed by {@link Class}, that can resolve the registration of the nearest supertype of a class.
+ * <p>
+ * Resolutions are cached per class in a {@link ClassValue}, so repeated resolutions of a class cost one field read and one
+ * {@link ClassValue#get(Class)}.
+ * Any change to the registry discards the cache.
+ * <p>
+ * Thread-safe, as described by {@link ConcurrentRegistry}.
+ *
+ * @author Oliver Yasuna
+ */
+public class TypeRegistry extends ConcurrentRegistry<Class<?>> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public TypeRegistry() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private volatile ClassValue<Resolution> resolutions = newResolutions();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public Registration register(final Class<?> key, final Object value) {
+    Arguments.requireNotNull(key, "key");
+
+    final Registration registration = super.register(key, value);
+
+    invalidate();
+
+    return (() -> {
+      registration.remove();
+
+      invalidate();
+    });
+  }
+
+  @Override
+  public Object unregister(final Class<?> key) {
+    try {
+      return super.unregister(key);
+    } finally {
+      invalidate();
+    }
+  }
+
+  /**
+   * Resolves the value registered for a class, or for its nearest supertype.
+   * <p>
+   * Supertypes are searched breadth-first: first the class, then its superclass and interfaces, then theirs, and so on.
+   * Within a level, superclasses come before interfaces, and interfaces are in declaration order.
+   * {@link Object} is the last resort for interfaces.
+   *
+   * @param type The class.
+   *
+   * @return The value, or empty if no supertype is registered.
+   */
+  public Optional<Object> resolve(final Class<?> type) {
+    Arguments.requireNotNull(type, "type");
+
+    return resolutions.get(type).value;
+  }
+
+  /**
+   * Resolves the value registered for a class, or for its nearest supertype, as described by {@link #resolve(Class)}.
+   *
+   * @param type      The class.
+   * @param valueType The class type of the value.
+   * @param <V>       The type of the value.
+   *
+   * @return The value, or empty if no supertype is registered.
+   *
+   * @throws ClassCastException If the value cannot be cast to the type specified by argument {@code valueType}.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> Optional<V> resolve(final Class<?> type, final Class<V> valueType) {
+    Arguments.requireNotNull(valueType, "valueType");
+
+    final Optional<Object> value = resolve(type);
+
+    if(value.isPresent()) {
+      valueType.cast(value.get());
+    }
+
+    return (Optional<V>)value;
+  }
+
+  /**
+   * Resolves the nearest supertype of a class that is registered, as described by {@link #resolve(Class)}.
+   *
+   * @param type The class.
+   *
+   * @return The registered supertype, or empty if none is registered.
+   */
+  public Optional<Class<?>> resolveKey(final Class<?> type) {
+    Arguments.requireNotNull(type, "type");
+
+    return resolutions.get(type).key;
+  }
+
+  /**
+   * Discards all cached resolutions.
+   */
+  protected void invalidate() {
+    resolutions = newResolutions();
+  }
+
+  private ClassValue<Resolution> newResolutions() {
+    return new ClassValue<>() {
+      @Override
+      protected Resolution computeValue(final Class<?> type) {
+        return compute(type);
+      }
+    };
+  }
+
+  private Resolution compute(final Class<?> type) {
+    final Map<Class<?>, Object> registrations = getRegistrations();
+    final Set<Class<?>> visited = new HashSet<>();
+    final Deque<Class<?>> queue = new ArrayDeque<>();
+
+    queue.add(type);
+
+    while(!queue.isEmpty()) {
+      final Class<?> current = queue.poll();
+
+      if(!visited.add(current)) {
+        continue;
+      }
+
+      final Object value = registrations.get(current);
+
+      if(value != null) {
+        return new Resolution(current, value);
+      }
+
+      if(current.getSuperclass() != null) {
+        queue.add(current.getSuperclass());
+      }
+
+      queue.addAll(Arrays.asList(current.getInterfaces()));
+    }
+
+    if(type.isInterface()) {
+      final Object value = registrations.get(Object.class);
+
+      if(value != null) {
+        return new Resolution(Object.class, value);
+      }
+    }
+
+    return Resolution.NONE;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * A cached resolution.
+   */
+  private static final class Resolution {
+
+    private static final Resolution NONE = new Resolution(Optional.empty(), Optional.empty());
+
+    private Resolution(final Class<?> key, final Object value) {
+      this(Optional.of(key), Optional.of(value));
+    }
+
+    private Resolution(final Optional<Class<?>> key, final Optional<Object> value) {
+      super();
+
+      this.key = key;
+      this.value = value;
+    }
+
+    private final Optional<Class<?>> key;
+
+    private final Optional<Object> value;
+
+  }
+
+}
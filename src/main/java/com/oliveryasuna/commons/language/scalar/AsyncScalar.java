@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An asynchronous {@link Scalar}.
+ * <p>
+ * Each call to {@link #value()} starts a new evaluation.
+ * Cancelling the returned future tells the evaluation that its result is no longer needed.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+@FunctionalInterface
+public interface AsyncScalar<T> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Adapts a {@link Scalar} to evaluate on an {@link Executor}.
+   * <p>
+   * Any executor works, including one that runs each task on a virtual thread.
+   * If the future is cancelled before the task starts, the scalar is not evaluated.
+   *
+   * @param scalar   The scalar.
+   * @param executor The executor.
+   * @param <T>      The type of the value.
+   *
+   * @return The asynchronous scalar.
+   */
+  static <T> AsyncScalar<T> of(final Scalar<T> scalar, final Executor executor) {
+    Arguments.requireNotNull(scalar, "scalar");
+    Arguments.requireNotNull(executor, "executor");
+
+    return () -> {
+      final CompletableFuture<T> future = new CompletableFuture<>();
+
+      try {
+        executor.execute(() -> {
+          if(future.isDone()) {
+            return;
+          }
+
+          try {
+            future.complete(scalar.value());
+          } catch(final Throwable e) {
+            // Errors too, as with CompletableFuture.supplyAsync; otherwise, the future would never complete.
+            future.completeExceptionally(e);
+          }
+        });
+      } catch(final RejectedExecutionException e) {
+        future.completeExceptionally(e);
+      }
+
+      return future;
+    };
+  }
+
+  /**
+   * Creates an {@link AsyncScalar} of a value that is already known.
+   *
+   * @param value The value.
+   * @param <T>   The type of the value.
+   *
+   * @return The asynchronous scalar.
+   */
+  static <T> AsyncScalar<T> completed(final T value) {
+    return () -> CompletableFuture.completedFuture(value);
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  CompletableFuture<T> value();
+
+  /**
+   * Adapts this to a {@link Scalar} that waits for the value.
+   * <p>
+   * If the evaluation fails with an {@link Exception} or an {@link Error}, it is thrown as is.
+   *
+   * @return The blocking scalar.
+   */
+  default Scalar<T> toScalar() {
+    return () -> {
+      try {
+        return value().get();
+      } catch(final ExecutionException e) {
+        if(e.getCause() instanceof Exception) {
+          throw (Exception)e.getCause();
+        } else if(e.getCause() instanceof Error) {
+          throw (Error)e.getCause();
+        }
+
+        throw e;
+      }
+    };
+  }
+
+}
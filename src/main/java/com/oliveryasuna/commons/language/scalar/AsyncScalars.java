@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.exception.UnsupportedInstantiationException;
+import com.oliveryasuna.commons.language.marker.Utility;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluation shared by the asynchronous boolean composites.
+ *
+ * @author Oliver Yasuna
+ */
+@Utility
+final class AsyncScalars {
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Evaluates every scalar concurrently, and combines their values.
+   * <p>
+   * If {@code decisive} is not {@code null}, the result is {@code decisive} as soon as any value is, and {@code !decisive} if none is;
+   * otherwise, the result is whether an odd number of values are {@code true}.
+   * Once the result is decided, by a value, a failure or cancellation, outstanding evaluations are cancelled.
+   *
+   * @param scalars  The scalars.
+   * @param decisive The value that decides the result, or {@code null} to combine every value.
+   *
+   * @return The result.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static CompletableFuture<Boolean> combine(final AsyncScalar<Boolean>[] scalars, final Boolean decisive) {
+    final CompletableFuture<Boolean> result = new CompletableFuture<>();
+    final CompletableFuture<Boolean>[] futures = new CompletableFuture[scalars.length];
+    final AtomicInteger remaining = new AtomicInteger(scalars.length);
+    final AtomicInteger trueCount = new AtomicInteger();
+
+    for(int i = 0; i < scalars.length && !result.isDone(); i++) {
+      futures[i] = scalars[i].value();
+
+      futures[i].whenComplete((value, throwable) -> {
+        if(throwable != null) {
+          result.completeExceptionally(unwrap(throwable));
+        } else if(value == null) {
+          result.completeExceptionally(new NullPointerException("Scalar value is null."));
+        } else if(value.equals(decisive)) {
+          result.complete(decisive);
+        } else {
+          if(value) {
+            trueCount.incrementAndGet();
+          }
+
+          if(remaining.decrementAndGet() == 0) {
+            result.complete(decisive != null ? !decisive : (trueCount.get() & 1) == 1);
+          }
+        }
+      });
+    }
+
+    result.whenComplete((value, throwable) -> cancel(futures));
+
+    return result;
+  }
+
+  /**
+   * Cancels a future when another completes first, such as when the other is cancelled.
+   *
+   * @param source    The future to cancel.
+   * @param dependent The future that depends on {@code source}.
+   * @param <T>       The type of the dependent.
+   *
+   * @return {@code dependent}.
+   */
+  static <T> CompletableFuture<T> cancelOnCompletion(final CompletableFuture<?> source, final CompletableFuture<T> dependent) {
+    dependent.whenComplete((value, throwable) -> source.cancel(true));
+
+    return dependent;
+  }
+
+  private static void cancel(final CompletableFuture<?>[] futures) {
+    for(final CompletableFuture<?> future : futures) {
+      if(future != null) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private static Throwable unwrap(final Throwable throwable) {
+    return (throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Default {@code private} constructor that throws a {@link UnsupportedInstantiationException} in case of reflection.
+   */
+  private AsyncScalars() {
+    super();
+
+    throw new UnsupportedInstantiationException();
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous counterpart of {@link Xor}: whether an odd number of values are {@code true}, with every scalar evaluated concurrently.
+ * <p>
+ * Every value is needed, so this only short-circuits on failure, cancelling outstanding evaluations.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public class AsyncXor implements AsyncScalar<Boolean> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public AsyncXor(final AsyncScalar<Boolean> scalar, final AsyncScalar<Boolean>... scalars) {
+    super();
+
+    Arguments.requireNotNull(scalar, "scalar");
+    Arguments.requireNotNull(scalars, "scalars");
+    Arguments.requireNotContainsSame(scalars, null, "scalars");
+
+    this.scalars = new AsyncScalar[1 + scalars.length];
+
+    this.scalars[0] = scalar;
+    System.arraycopy(scalars, 0, this.scalars, 1, scalars.length);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final AsyncScalar<Boolean>[] scalars;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public CompletableFuture<Boolean> value() {
+    return AsyncScalars.combine(getScalars(), null);
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected AsyncScalar<Boolean>[] getScalars() {
+    return scalars;
+  }
+
+}
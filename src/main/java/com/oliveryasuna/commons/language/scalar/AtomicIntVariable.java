@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A thread-safe {@code int} variable: the value is {@code volatile}, and can be updated atomically without locking or boxing.
+ *
+ * @author Oliver Yasuna
+ */
+public class AtomicIntVariable implements IntScalar {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(AtomicIntVariable.class, "value", int.class);
+    } catch(final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public AtomicIntVariable(final int value) {
+    super();
+
+    this.value = value;
+  }
+
+  public AtomicIntVariable() {
+    this(0);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private volatile int value;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public int intValue() {
+    return value;
+  }
+
+  @Override
+  public Integer value() {
+    return value;
+  }
+
+  public void setValue(final int value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the value with acquire semantics: later reads and writes are not reordered before this.
+   *
+   * @return The value.
+   */
+  public int getAcquire() {
+    return (int)VALUE.getAcquire(this);
+  }
+
+  /**
+   * Sets the value with release semantics: earlier reads and writes are not reordered after this.
+   *
+   * @param value The new value.
+   */
+  public void setRelease(final int value) {
+    VALUE.setRelease(this, value);
+  }
+
+  public int getAndSet(final int value) {
+    return (int)VALUE.getAndSet(this, value);
+  }
+
+  public boolean compareAndSet(final int expected, final int value) {
+    return VALUE.compareAndSet(this, expected, value);
+  }
+
+  public int getAndIncrement() {
+    return (int)VALUE.getAndAdd(this, 1);
+  }
+
+  public int incrementAndGet() {
+    return ((int)VALUE.getAndAdd(this, 1) + 1);
+  }
+
+  public int getAndDecrement() {
+    return (int)VALUE.getAndAdd(this, -1);
+  }
+
+  public int decrementAndGet() {
+    return ((int)VALUE.getAndAdd(this, -1) - 1);
+  }
+
+  public int getAndAdd(final int delta) {
+    return (int)VALUE.getAndAdd(this, delta);
+  }
+
+  public int addAndGet(final int delta) {
+    return ((int)VALUE.getAndAdd(this, delta) + delta);
+  }
+
+  public int getAndUpdate(final IntUnaryOperator updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    int previous = this.value;
+
+    while(true) {
+      final int next = updater.applyAsInt(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return previous;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public int updateAndGet(final IntUnaryOperator updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    int previous = this.value;
+
+    while(true) {
+      final int next = updater.applyAsInt(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return next;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public int getAndAccumulate(final int operand, final IntBinaryOperator accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return getAndUpdate(previous -> accumulator.applyAsInt(previous, operand));
+  }
+
+  public int accumulateAndGet(final int operand, final IntBinaryOperator accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return updateAndGet(previous -> accumulator.applyAsInt(previous, operand));
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A thread-safe {@code long} variable: the value is {@code volatile}, and can be updated atomically without locking or boxing.
+ *
+ * @author Oliver Yasuna
+ */
+public class AtomicLongVariable implements LongScalar {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(AtomicLongVariable.class, "value", long.class);
+    } catch(final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public AtomicLongVariable(final long value) {
+    super();
+
+    this.value = value;
+  }
+
+  public AtomicLongVariable() {
+    this(0);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private volatile long value;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public long longValue() {
+    return value;
+  }
+
+  @Override
+  public Long value() {
+    return value;
+  }
+
+  public void setValue(final long value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the value with acquire semantics: later reads and writes are not reordered before this.
+   *
+   * @return The value.
+   */
+  public long getAcquire() {
+    return (long)VALUE.getAcquire(this);
+  }
+
+  /**
+   * Sets the value with release semantics: earlier reads and writes are not reordered after this.
+   *
+   * @param value The new value.
+   */
+  public void setRelease(final long value) {
+    VALUE.setRelease(this, value);
+  }
+
+  public long getAndSet(final long value) {
+    return (long)VALUE.getAndSet(this, value);
+  }
+
+  public boolean compareAndSet(final long expected, final long value) {
+    return VALUE.compareAndSet(this, expected, value);
+  }
+
+  public long getAndIncrement() {
+    return (long)VALUE.getAndAdd(this, (long)1);
+  }
+
+  public long incrementAndGet() {
+    return ((long)VALUE.getAndAdd(this, (long)1) + 1);
+  }
+
+  public long getAndDecrement() {
+    return (long)VALUE.getAndAdd(this, (long)-1);
+  }
+
+  public long decrementAndGet() {
+    return ((long)VALUE.getAndAdd(this, (long)-1) - 1);
+  }
+
+  public long getAndAdd(final long delta) {
+    return (long)VALUE.getAndAdd(this, delta);
+  }
+
+  public long addAndGet(final long delta) {
+    return ((long)VALUE.getAndAdd(this, delta) + delta);
+  }
+
+  public long getAndUpdate(final LongUnaryOperator updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    long previous = this.value;
+
+    while(true) {
+      final long next = updater.applyAsLong(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return previous;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public long updateAndGet(final LongUnaryOperator updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    long previous = this.value;
+
+    while(true) {
+      final long next = updater.applyAsLong(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return next;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public long getAndAccumulate(final long operand, final LongBinaryOperator accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return getAndUpdate(previous -> accumulator.applyAsLong(previous, operand));
+  }
+
+  public long accumulateAndGet(final long operand, final LongBinaryOperator accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return updateAndGet(previous -> accumulator.applyAsLong(previous, operand));
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
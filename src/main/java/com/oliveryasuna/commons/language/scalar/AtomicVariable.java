@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe, mutable {@link Scalar}, with the same accessors as {@link Variable}, which it does not extend.
+ * The value is {@code volatile}, and can be updated atomically without locking.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+public class AtomicVariable<T> implements Scalar<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(AtomicVariable.class, "value", Object.class);
+    } catch(final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public AtomicVariable(final T value) {
+    super();
+
+    this.value = value;
+  }
+
+  public AtomicVariable() {
+    this(null);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private volatile T value;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public T value() {
+    return value;
+  }
+
+  public void setValue(final T value) {
+    this.value = value;
+  }
+
+  /**
+   * Gets the value with acquire semantics: later reads and writes are not reordered before this.
+   *
+   * @return The value.
+   */
+  @SuppressWarnings("unchecked")
+  public T getAcquire() {
+    return (T)VALUE.getAcquire(this);
+  }
+
+  /**
+   * Sets the value with release semantics: earlier reads and writes are not reordered after this.
+   *
+   * @param value The new value.
+   */
+  public void setRelease(final T value) {
+    VALUE.setRelease(this, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public T getAndSet(final T value) {
+    return (T)VALUE.getAndSet(this, value);
+  }
+
+  /**
+   * Sets the value if it is the same instance as {@code expected}.
+   *
+   * @param expected The expected value.
+   * @param value    The new value.
+   *
+   * @return {@code true}, if the value was set; otherwise, {@code false}.
+   */
+  public boolean compareAndSet(final T expected, final T value) {
+    return VALUE.compareAndSet(this, expected, value);
+  }
+
+  public T getAndUpdate(final UnaryOperator<T> updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    T previous = this.value;
+
+    while(true) {
+      final T next = updater.apply(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return previous;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public T updateAndGet(final UnaryOperator<T> updater) {
+    Arguments.requireNotNull(updater, "updater");
+
+    T previous = this.value;
+
+    while(true) {
+      final T next = updater.apply(previous);
+
+      if(VALUE.weakCompareAndSet(this, previous, next)) {
+        return next;
+      }
+
+      previous = this.value;
+    }
+  }
+
+  public T getAndAccumulate(final T operand, final BinaryOperator<T> accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return getAndUpdate(previous -> accumulator.apply(previous, operand));
+  }
+
+  public T accumulateAndGet(final T operand, final BinaryOperator<T> accumulator) {
+    Arguments.requireNotNull(accumulator, "accumulator");
+
+    return updateAndGet(previous -> accumulator.apply(previous, operand));
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+}
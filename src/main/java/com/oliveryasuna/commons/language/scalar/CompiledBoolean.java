@@ -0,0 +1,637 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.marker.Immutable;
+
+import java.util.*;
+
+/**
+ * A {@link Scalar} tree of {@link And}, {@link Or}, {@link Xor}, {@link Not}, {@link True} and {@link False}, compiled into a flat program.
+ * <p>
+ * Compiling flattens nested composites of the same kind, folds constants, removes double negations, and precomputes the jumps that
+ * short-circuit {@link And} and {@link Or}.
+ * The program is then evaluated by a single loop, and only the remaining leaves are called.
+ * <p>
+ * Leaves are any other scalars, including subclasses of the composites, since they may override {@link Scalar#value()}.
+ * As with short-circuiting, leaves whose values cannot change the result may not be evaluated, so leaves should not have side effects.
+ *
+ * @author Oliver Yasuna
+ */
+@Immutable
+public final class CompiledBoolean implements BooleanScalar {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * {@code acc = leaves[operand].value()}.
+   */
+  private static final int LOAD = 0;
+
+  /**
+   * {@code acc = (operand != 0)}.
+   */
+  private static final int CONSTANT = 1;
+
+  /**
+   * {@code acc = !acc}.
+   */
+  private static final int NOT = 2;
+
+  /**
+   * {@code if(!acc) goto operand}.
+   */
+  private static final int JUMP_IF_FALSE = 3;
+
+  /**
+   * {@code if(acc) goto operand}.
+   */
+  private static final int JUMP_IF_TRUE = 4;
+
+  /**
+   * {@code push(acc)}.
+   */
+  private static final int PUSH = 5;
+
+  /**
+   * {@code acc = pop() ^ acc}.
+   */
+  private static final int XOR = 6;
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Compiles a {@link Scalar} tree.
+   *
+   * @param scalar The root of the tree.
+   *
+   * @return The compiled tree.
+   */
+  public static CompiledBoolean compile(final Scalar<Boolean> scalar) {
+    Arguments.requireNotNull(scalar, "scalar");
+
+    final Compiler compiler = new Compiler();
+
+    compiler.emit(simplify(scalar));
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    final Scalar<Boolean>[] leaves = compiler.leaves.toArray(new Scalar[0]);
+
+    return new CompiledBoolean(Arrays.copyOf(compiler.code, compiler.length), leaves, compiler.maxDepth);
+  }
+
+  /**
+   * Converts a {@link Scalar} tree into a simplified {@link Node} tree.
+   * <p>
+   * Iterative, with an explicit stack of {@link Simplification}s, so that deep trees cannot overflow the call stack.
+   */
+  private static Node simplify(final Scalar<Boolean> root) {
+    final Deque<Simplification> stack = new ArrayDeque<>();
+    Scalar<Boolean> pending = root;
+
+    while(true) {
+      Node result = Simplification.open(pending, stack);
+
+      // Pass each complete node up to its parent, until the root is complete or a parent needs its next child.
+      while(result != null) {
+        final Simplification top = stack.peek();
+
+        if(top == null) {
+          return result;
+        }
+
+        result = top.accept(result);
+
+        if(result != null) {
+          stack.pop();
+        }
+      }
+
+      pending = stack.element().next();
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  private CompiledBoolean(final int[] code, final Scalar<Boolean>[] leaves, final int maxDepth) {
+    super();
+
+    this.code = code;
+    this.leaves = leaves;
+    this.maxDepth = maxDepth;
+    this.stacks = (maxDepth > Long.SIZE ? new ThreadLocal<>() : null);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * Pairs of opcode and operand.
+   */
+  private final int[] code;
+
+  private final Scalar<Boolean>[] leaves;
+
+  /**
+   * The maximum depth of the {@link #XOR} operand stack.
+   */
+  private final int maxDepth;
+
+  /**
+   * Per-thread operand stacks, only used if {@link #maxDepth} exceeds the bits of a {@code long}; {@code null} otherwise.
+   * <p>
+   * A stack is taken while in use, so a leaf that evaluates this program again gets a new one.
+   */
+  private final ThreadLocal<boolean[]> stacks;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public boolean booleanValue() throws Exception {
+    if(stacks == null) {
+      return run(null);
+    }
+
+    boolean[] stack = stacks.get();
+
+    if(stack == null) {
+      stack = new boolean[maxDepth];
+    } else {
+      stacks.set(null);
+    }
+
+    try {
+      return run(stack);
+    } finally {
+      stacks.set(stack);
+    }
+  }
+
+  /**
+   * Runs the program.
+   *
+   * @param stack The operand stack, or {@code null} to keep the operands in the bits of a {@code long}.
+   */
+  private boolean run(final boolean[] stack) throws Exception {
+    final int[] code = this.code;
+    long bits = 0;
+    int depth = 0;
+    boolean acc = false;
+    int pc = 0;
+
+    while(pc < code.length) {
+      final int operand = code[pc + 1];
+
+      switch(code[pc]) {
+        case LOAD:
+          acc = leaves[operand].value();
+          break;
+        case CONSTANT:
+          acc = (operand != 0);
+          break;
+        case NOT:
+          acc = !acc;
+          break;
+        case JUMP_IF_FALSE:
+          if(!acc) {
+            pc = operand;
+
+            continue;
+          }
+
+          break;
+        case JUMP_IF_TRUE:
+          if(acc) {
+            pc = operand;
+
+            continue;
+          }
+
+          break;
+        case PUSH:
+          if(stack == null) {
+            bits = ((bits << 1) | (acc ? 1 : 0));
+          } else {
+            stack[depth++] = acc;
+          }
+
+          break;
+        case XOR:
+          if(stack == null) {
+            acc ^= ((bits & 1) != 0);
+            bits >>>= 1;
+          } else {
+            acc ^= stack[--depth];
+          }
+
+          break;
+        default:
+          throw new IllegalStateException("Unknown opcode: " + code[pc] + ".");
+      }
+
+      pc += 2;
+    }
+
+    return acc;
+  }
+
+  /**
+   * Gets the number of leaves that remain after simplification.
+   *
+   * @return The number of leaves.
+   */
+  public int getLeafCount() {
+    return leaves.length;
+  }
+
+  /**
+   * Gets the number of instructions of the program.
+   *
+   * @return The number of instructions.
+   */
+  public int getInstructionCount() {
+    return (code.length / 2);
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  /**
+   * A node of a simplified tree.
+   */
+  private static final class Node {
+
+    private static final int LEAF = 0;
+
+    private static final int CONSTANT = 1;
+
+    private static final int NOT = 2;
+
+    private static final int AND = 3;
+
+    private static final int OR = 4;
+
+    private static final int XOR = 5;
+
+    private static final Node TRUE = new Node(CONSTANT, true, null, null);
+
+    private static final Node FALSE = new Node(CONSTANT, false, null, null);
+
+    private Node(final int kind, final boolean value, final Scalar<Boolean> leaf, final List<Node> children) {
+      super();
+
+      this.kind = kind;
+      this.value = value;
+      this.leaf = leaf;
+      this.children = children;
+    }
+
+    private final int kind;
+
+    private final boolean value;
+
+    private final Scalar<Boolean> leaf;
+
+    private final List<Node> children;
+
+    private Node negate() {
+      switch(kind) {
+        case CONSTANT:
+          return (value ? FALSE : TRUE);
+        case NOT:
+          return children.get(0);
+        default:
+          return new Node(NOT, false, null, List.of(this));
+      }
+    }
+
+  }
+
+  /**
+   * A composite being simplified: {@link Not}, {@link And}, {@link Or} or {@link Xor}.
+   */
+  private static final class Simplification {
+
+    /**
+     * Simplifies a scalar that has no children, or pushes a {@link Simplification} of a composite.
+     *
+     * @return The simplified node, or {@code null} if a composite was pushed.
+     */
+    private static Node open(final Scalar<Boolean> scalar, final Deque<Simplification> stack) {
+      final Class<?> type = scalar.getClass();
+
+      if(type == True.class) {
+        return Node.TRUE;
+      } else if(type == False.class) {
+        return Node.FALSE;
+      } else if(type == Constant.class && ((Constant<Boolean>)scalar).getValue() != null) {
+        return (((Constant<Boolean>)scalar).getValue() ? Node.TRUE : Node.FALSE);
+      } else if(type == Not.class) {
+        stack.push(new Simplification(Node.NOT, ((Not)scalar).getScalar(), null));
+      } else if(type == And.class) {
+        stack.push(new Simplification(Node.AND, null, ((And)scalar).getScalars()));
+      } else if(type == Or.class) {
+        stack.push(new Simplification(Node.OR, null, ((Or)scalar).getScalars()));
+      } else if(type == Xor.class) {
+        stack.push(new Simplification(Node.XOR, null, ((Xor)scalar).getScalars()));
+      } else {
+        return new Node(Node.LEAF, false, scalar, null);
+      }
+
+      return null;
+    }
+
+    private Simplification(final int kind, final Scalar<Boolean> operand, final Scalar<Boolean>[] operands) {
+      super();
+
+      this.kind = kind;
+      this.operand = operand;
+      this.operands = operands;
+      this.children = (operands != null ? new ArrayList<>(operands.length) : null);
+    }
+
+    private final int kind;
+
+    /**
+     * The operand of a {@link Not}.
+     */
+    private final Scalar<Boolean> operand;
+
+    /**
+     * The operands of an {@link And}, {@link Or} or {@link Xor}.
+     */
+    private final Scalar<Boolean>[] operands;
+
+    private final List<Node> children;
+
+    private int index;
+
+    /**
+     * The parity folded out of an {@link Xor}.
+     */
+    private boolean parity;
+
+    private Scalar<Boolean> next() {
+      return (operands == null ? operand : operands[index++]);
+    }
+
+    /**
+     * Accepts the simplified next child.
+     *
+     * @return The simplified composite, if it is complete; otherwise, {@code null}.
+     */
+    private Node accept(final Node child) {
+      switch(kind) {
+        case Node.NOT:
+          return child.negate();
+        case Node.AND:
+        case Node.OR:
+          return acceptJunction(child);
+        default:
+          return acceptXor(child);
+      }
+    }
+
+    /**
+     * Simplifies an {@link And} or {@link Or}: nested junctions of the same kind are inlined, neutral constants are dropped, and a decisive
+     * constant decides the result.
+     */
+    private Node acceptJunction(final Node child) {
+      final boolean decisive = (kind == Node.OR);
+
+      if(child.kind == Node.CONSTANT) {
+        if(child.value == decisive) {
+          return child;
+        }
+      } else if(child.kind == kind) {
+        children.addAll(child.children);
+      } else {
+        children.add(child);
+      }
+
+      if(index < operands.length) {
+        return null;
+      }
+
+      if(children.isEmpty()) {
+        return (decisive ? Node.FALSE : Node.TRUE);
+      }
+
+      return (children.size() == 1 ? children.get(0) : new Node(kind, false, null, children));
+    }
+
+    /**
+     * Simplifies an {@link Xor}: nested {@link Xor}s are inlined, and constants and negations are folded into the parity of the result.
+     */
+    private Node acceptXor(Node child) {
+      if(child.kind == Node.NOT) {
+        parity = !parity;
+        child = child.children.get(0);
+      }
+
+      if(child.kind == Node.CONSTANT) {
+        parity ^= child.value;
+      } else if(child.kind == Node.XOR) {
+        children.addAll(child.children);
+      } else {
+        children.add(child);
+      }
+
+      if(index < operands.length) {
+        return null;
+      }
+
+      final Node node;
+
+      if(children.isEmpty()) {
+        return (parity ? Node.TRUE : Node.FALSE);
+      } else if(children.size() == 1) {
+        node = children.get(0);
+      } else {
+        node = new Node(Node.XOR, false, null, children);
+      }
+
+      return (parity ? node.negate() : node);
+    }
+
+  }
+
+  /**
+   * Emits the program of a simplified tree.
+   */
+  private static final class Compiler {
+
+    private Compiler() {
+      super();
+    }
+
+    private int[] code = new int[16];
+
+    private int length;
+
+    private final List<Scalar<Boolean>> leaves = new ArrayList<>();
+
+    private int depth;
+
+    private int maxDepth;
+
+    /**
+     * Emits a node.
+     * <p>
+     * Iterative, with an explicit stack of {@link Emission}s, so that deep trees cannot overflow the call stack.
+     */
+    private void emit(final Node root) {
+      final Deque<Emission> stack = new ArrayDeque<>();
+
+      stack.push(new Emission(root));
+
+      while(!stack.isEmpty()) {
+        final Emission emission = stack.element();
+        final Node node = emission.node;
+
+        switch(node.kind) {
+          case Node.LEAF:
+            leaves.add(node.leaf);
+            emit(LOAD, leaves.size() - 1);
+            stack.pop();
+            break;
+          case Node.CONSTANT:
+            emit(CONSTANT, node.value ? 1 : 0);
+            stack.pop();
+            break;
+          case Node.NOT:
+            if(emission.index++ == 0) {
+              stack.push(new Emission(node.children.get(0)));
+            } else {
+              emit(NOT, 0);
+              stack.pop();
+            }
+
+            break;
+          case Node.AND:
+          case Node.OR:
+            emitJunction(node.kind == Node.AND ? JUMP_IF_FALSE : JUMP_IF_TRUE, emission, stack);
+            break;
+          case Node.XOR:
+            emitXor(emission, stack);
+            break;
+          default:
+            throw new IllegalStateException("Unknown node: " + node.kind + ".");
+        }
+      }
+    }
+
+    /**
+     * Emits each child followed by a jump to the end, except the last; the value that jumps is the result.
+     */
+    private void emitJunction(final int jump, final Emission emission, final Deque<Emission> stack) {
+      final List<Node> children = emission.node.children;
+      final int index = emission.index;
+
+      if(index == 0) {
+        emission.jumps = new int[children.size() - 1];
+      } else if(index < children.size()) {
+        emission.jumps[index - 1] = length;
+
+        emit(jump, -1);
+      }
+
+      if(index < children.size()) {
+        stack.push(new Emission(children.get(emission.index++)));
+
+        return;
+      }
+
+      for(final int at : emission.jumps) {
+        code[at + 1] = length;
+      }
+
+      stack.pop();
+    }
+
+    /**
+     * Emits the first child, then each other child between a {@link #PUSH} and an {@link #XOR}.
+     */
+    private void emitXor(final Emission emission, final Deque<Emission> stack) {
+      final List<Node> children = emission.node.children;
+      final int index = emission.index;
+
+      if(index > 1) {
+        emit(XOR, 0);
+
+        depth--;
+      }
+
+      if(index == children.size()) {
+        stack.pop();
+
+        return;
+      }
+
+      if(index > 0) {
+        emit(PUSH, 0);
+
+        maxDepth = Math.max(maxDepth, ++depth);
+      }
+
+      stack.push(new Emission(children.get(emission.index++)));
+    }
+
+    private void emit(final int opcode, final int operand) {
+      if(length + 2 > code.length) {
+        code = Arrays.copyOf(code, code.length * 2);
+      }
+
+      code[length++] = opcode;
+      code[length++] = operand;
+    }
+
+  }
+
+  /**
+   * A node being emitted.
+   */
+  private static final class Emission {
+
+    private Emission(final Node node) {
+      super();
+
+      this.node = node;
+    }
+
+    private final Node node;
+
+    /**
+     * The number of children emitted so far.
+     */
+    private int index;
+
+    /**
+     * The positions of the jumps of an {@link And} or {@link Or}, to patch once its end is known.
+     */
+    private int[] jumps;
+
+  }
+
+}
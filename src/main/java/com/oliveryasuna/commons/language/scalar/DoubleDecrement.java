@@ -18,7 +18,7 @@
 
 package com.oliveryasuna.commons.language.scalar;
 
-public class DoubleDecrement extends AbstractScalar<Double> {
+public class DoubleDecrement extends AbstractScalar<Double> implements DoubleScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -32,7 +32,12 @@ public class DoubleDecrement extends AbstractScalar<Double> {
 
   @Override
   public Double value() throws Exception {
-    return (super.value() - 1);
+    return doubleValue();
+  }
+
+  @Override
+  public double doubleValue() throws Exception {
+    return (getValue() - 1);
   }
 
 }
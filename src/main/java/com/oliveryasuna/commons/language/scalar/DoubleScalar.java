@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+/**
+ * A {@link Scalar} of a primitive {@code double}, which can be evaluated without boxing.
+ *
+ * @author Oliver Yasuna
+ */
+@FunctionalInterface
+public interface DoubleScalar extends Scalar<Double> {
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Adapts a boxed {@link Scalar}.
+   *
+   * @param scalar The scalar.
+   *
+   * @return {@code scalar}, if it is already a {@link DoubleScalar}; otherwise, an adapter that unboxes its value.
+   */
+  static DoubleScalar of(final Scalar<Double> scalar) {
+    Arguments.requireNotNull(scalar, "scalar");
+
+    return (scalar instanceof DoubleScalar ? (DoubleScalar)scalar : scalar::value);
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  double doubleValue() throws Exception;
+
+  @Override
+  default Double value() throws Exception {
+    return doubleValue();
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Scalar} that evaluates another at most once per time-to-live.
+ * <p>
+ * Thread-safe: while the value is fresh, calls read a {@code volatile} field without locking, and once it expires, one thread evaluates the
+ * scalar again.
+ * <p>
+ * If created with an {@link Executor}, an expired value is still returned, and one refresh is submitted to the executor; callers only wait
+ * for the first evaluation.
+ * A refresh is discarded if the value was invalidated or replaced while it ran.
+ * A failed refresh keeps the previous value; the next call throws the failure, and the call after that refreshes again.
+ * If evaluation throws, nothing is cached.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+public class ExpiringMemoized<T> implements Scalar<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ExpiringMemoized(final Scalar<T> scalar, final Duration timeToLive) {
+    this(scalar, timeToLive, null, false);
+  }
+
+  public ExpiringMemoized(final Scalar<T> scalar, final Duration timeToLive, final Executor refreshExecutor) {
+    this(scalar, timeToLive, Arguments.requireNotNull(refreshExecutor, "refreshExecutor"), true);
+  }
+
+  private ExpiringMemoized(final Scalar<T> scalar, final Duration timeToLive, final Executor refreshExecutor, final boolean refreshAsync) {
+    super();
+
+    Arguments.requireNotNull(scalar, "scalar");
+    Arguments.requireNotNull(timeToLive, "timeToLive");
+    Arguments.requireGreater(timeToLive.toNanos(), 0L, "timeToLive");
+
+    this.scalar = scalar;
+    this.timeToLive = timeToLive.toNanos();
+    this.refreshExecutor = (refreshAsync ? refreshExecutor : null);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Scalar<T> scalar;
+
+  /**
+   * The time-to-live, in nanoseconds.
+   */
+  private final long timeToLive;
+
+  /**
+   * The executor of asynchronous refreshes, or {@code null} if refreshes are synchronous.
+   */
+  private final Executor refreshExecutor;
+
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private final AtomicReference<Entry<T>> entry = new AtomicReference<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public T value() throws Exception {
+    final Entry<T> entry = this.entry.get();
+
+    if(entry != null) {
+      // Only the call that clears a refresh failure reports it.
+      if(entry.failure != null && this.entry.compareAndSet(entry, entry.withFailure(null))) {
+        throw entry.failure;
+      }
+
+      if(!entry.isExpired(System.nanoTime())) {
+        return entry.value;
+      }
+
+      if(refreshExecutor != null) {
+        refreshAsync(entry);
+
+        return entry.value;
+      }
+    }
+
+    synchronized(this) {
+      final Entry<T> current = this.entry.get();
+
+      if(current != null && !current.isExpired(System.nanoTime())) {
+        return current.value;
+      }
+
+      final Entry<T> evaluated = evaluate();
+
+      // If invalidated meanwhile, the value is returned but not cached.
+      this.entry.compareAndSet(current, evaluated);
+
+      return evaluated.value;
+    }
+  }
+
+  /**
+   * Discards the cached value, so that the next call evaluates the scalar again.
+   * <p>
+   * A refresh that is running is discarded when it completes.
+   */
+  public void invalidate() {
+    entry.set(null);
+  }
+
+  private Entry<T> evaluate() throws Exception {
+    return new Entry<>(getScalar().value(), System.nanoTime() + timeToLive, null);
+  }
+
+  /**
+   * Submits one refresh of an expired entry, which replaces it only if it is still current.
+   */
+  private void refreshAsync(final Entry<T> expired) {
+    if(!refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          entry.compareAndSet(expired, evaluate());
+        } catch(final Exception e) {
+          entry.compareAndSet(expired, expired.withFailure(e));
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch(final RejectedExecutionException e) {
+      refreshing.set(false);
+
+      throw e;
+    }
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected Scalar<T> getScalar() {
+    return scalar;
+  }
+
+  // Nested
+  //--------------------------------------------------
+
+  private static final class Entry<T> {
+
+    private Entry(final T value, final long expiresAt, final Exception failure) {
+      super();
+
+      this.value = value;
+      this.expiresAt = expiresAt;
+      this.failure = failure;
+    }
+
+    private final T value;
+
+    private final long expiresAt;
+
+    /**
+     * The failure of the last refresh, if not yet reported.
+     */
+    private final Exception failure;
+
+    private Entry<T> withFailure(final Exception failure) {
+      return new Entry<>(value, expiresAt, failure);
+    }
+
+    private boolean isExpired(final long now) {
+      return (now - expiresAt >= 0);
+    }
+
+  }
+
+}
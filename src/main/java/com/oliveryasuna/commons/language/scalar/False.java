@@ -23,7 +23,7 @@ import com.oliveryasuna.commons.language.marker.Singleton;
 
 @Singleton
 @Immutable
-public class False implements Scalar<Boolean> {
+public class False implements BooleanScalar {
 
   // Static fields
   //--------------------------------------------------
@@ -52,7 +52,7 @@ public class False implements Scalar<Boolean> {
   //--------------------------------------------------
 
   @Override
-  public Boolean value() throws Exception {
+  public boolean booleanValue() throws Exception {
     return false;
   }
 
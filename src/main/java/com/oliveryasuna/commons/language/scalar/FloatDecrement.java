@@ -18,7 +18,7 @@
 
 package com.oliveryasuna.commons.language.scalar;
 
-public class FloatDecrement extends AbstractScalar<Float> {
+public class FloatDecrement extends AbstractScalar<Float> implements FloatScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -32,7 +32,12 @@ public class FloatDecrement extends AbstractScalar<Float> {
 
   @Override
   public Float value() throws Exception {
-    return (super.value() - 1);
+    return floatValue();
+  }
+
+  @Override
+  public float floatValue() throws Exception {
+    return (getValue() - 1);
   }
 
 }
@@ -18,7 +18,7 @@
 
 package com.oliveryasuna.commons.language.scalar;
 
-public class IntIncrement extends AbstractScalar<Integer> {
+public class IntIncrement extends AbstractScalar<Integer> implements IntScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -32,7 +32,12 @@ public class IntIncrement extends AbstractScalar<Integer> {
 
   @Override
   public Integer value() throws Exception {
-    return (super.value() + 1);
+    return intValue();
+  }
+
+  @Override
+  public int intValue() throws Exception {
+    return (getValue() + 1);
   }
 
 }
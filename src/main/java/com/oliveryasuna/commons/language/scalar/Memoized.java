@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+/**
+ * A {@link Scalar} that evaluates another once, and then returns the same value.
+ * <p>
+ * Thread-safe: concurrent first calls evaluate the scalar once, and later calls read a {@code volatile} field without locking.
+ * If evaluation throws, nothing is cached, and the next call evaluates again.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+public class Memoized<T> implements Scalar<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * Marks that the scalar has not been evaluated, since {@code null} is a valid value.
+   */
+  private static final Object UNSET = new Object();
+
+  // Constructors
+  //--------------------------------------------------
+
+  public Memoized(final Scalar<T> scalar) {
+    super();
+
+    Arguments.requireNotNull(scalar, "scalar");
+
+    this.scalar = scalar;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Scalar<T> scalar;
+
+  private volatile Object value = UNSET;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T value() throws Exception {
+    Object value = this.value;
+
+    if(value == UNSET) {
+      synchronized(this) {
+        value = this.value;
+
+        if(value == UNSET) {
+          value = getScalar().value();
+
+          this.value = value;
+        }
+      }
+    }
+
+    return (T)value;
+  }
+
+  /**
+   * Gets whether the scalar has been evaluated.
+   *
+   * @return {@code true}, if a value is cached; otherwise, {@code false}.
+   */
+  public boolean isEvaluated() {
+    return (value != UNSET);
+  }
+
+  /**
+   * Discards the cached value, so that the next call evaluates the scalar again.
+   */
+  public void invalidate() {
+    value = UNSET;
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected Scalar<T> getScalar() {
+    return scalar;
+  }
+
+}
@@ -22,7 +22,7 @@ import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.marker.Immutable;
 
 @Immutable
-public class Not implements Scalar<Boolean> {
+public class Not implements BooleanScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -44,7 +44,7 @@ public class Not implements Scalar<Boolean> {
   //--------------------------------------------------
 
   @Override
-  public Boolean value() throws Exception {
+  public boolean booleanValue() throws Exception {
     return !getScalar().value();
   }
 
@@ -22,7 +22,7 @@ import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.marker.Immutable;
 
 @Immutable
-public class Or implements Scalar<Boolean> {
+public class Or implements BooleanScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -50,7 +50,7 @@ public class Or implements Scalar<Boolean> {
   //--------------------------------------------------
 
   @Override
-  public Boolean value() throws Exception {
+  public boolean booleanValue() throws Exception {
     for(final Scalar<Boolean> scalar : getScalars()) {
       if(scalar.value()) {
         return true;
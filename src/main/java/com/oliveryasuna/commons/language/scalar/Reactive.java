@@ -0,0 +1,243 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.*;
+
+/**
+ * A {@link Scalar} derived from others, that is only recomputed when something it read has changed.
+ * <p>
+ * While computing, every {@link ReactiveVariable} and {@link Reactive} read, directly or through composites such as {@link And} and
+ * {@link Or}, is recorded as a dependency.
+ * Setting a {@link ReactiveVariable} marks its dependents dirty, and their dependents possibly dirty, without recomputing anything.
+ * Reading then recomputes only what is dirty, in dependency order, so no computation sees a mix of old and new values, and a computation
+ * whose value did not change does not dirty its dependents.
+ * Reading an unchanged graph only checks a flag.
+ * <p>
+ * Not thread-safe: a graph should be used by one thread at a time.
+ * Dependencies hold their dependents, so call {@link #dispose()} on a reactive that is no longer needed.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+public class Reactive<T> implements Scalar<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int CLEAN = 0;
+
+  /**
+   * A dependency may have changed.
+   */
+  private static final int CHECK = 1;
+
+  /**
+   * A dependency has changed.
+   */
+  private static final int DIRTY = 2;
+
+  /**
+   * The reactive being computed on the current thread, if any.
+   */
+  private static final ThreadLocal<Reactive<?>> COMPUTING = new ThreadLocal<>();
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Records a read of a source by the reactive being computed, if any.
+   */
+  static void track(final ReactiveVariable<?> source) {
+    final Reactive<?> computing = COMPUTING.get();
+
+    if(computing != null && computing.sourceSet.add(source)) {
+      computing.sources.add(source);
+      source.addObserver(computing);
+    }
+  }
+
+  private static void track(final Reactive<?> source) {
+    final Reactive<?> computing = COMPUTING.get();
+
+    if(computing != null && computing != source && computing.sourceSet.add(source)) {
+      computing.sources.add(source);
+      source.observers.add(computing);
+    }
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  public Reactive(final Scalar<T> scalar) {
+    super();
+
+    Arguments.requireNotNull(scalar, "scalar");
+
+    this.scalar = scalar;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Scalar<T> scalar;
+
+  /**
+   * The {@link Reactive}s and {@link ReactiveVariable}s read by the last computation.
+   */
+  private final List<Object> sources = new ArrayList<>();
+
+  /**
+   * The same as {@link #sources}, by identity, so that recording a read is constant-time.
+   * The list is kept for its order, which {@link #refresh()} checks in.
+   */
+  private final Set<Object> sourceSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private final List<Reactive<?>> observers = new ArrayList<>();
+
+  private T value;
+
+  private int state = DIRTY;
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public T value() throws Exception {
+    track(this);
+    refresh();
+
+    return value;
+  }
+
+  /**
+   * Removes this from its dependencies, so that it is no longer notified of changes.
+   * <p>
+   * The next read recomputes it, and records its dependencies again.
+   * Since this no longer hears of changes, its dependents, if any, are marked possibly dirty, and their dependents in turn; their next read
+   * recomputes this, which subscribes it again.
+   * To detach a whole graph, dispose its dependents as well.
+   */
+  public void dispose() {
+    removeFromSources();
+
+    state = DIRTY;
+
+    for(final Reactive<?> observer : observers) {
+      observer.stale(CHECK);
+    }
+  }
+
+  /**
+   * Marks this, if it is not already at least as stale, and its dependents as possibly dirty.
+   */
+  private void stale(final int state) {
+    if(this.state >= state) {
+      return;
+    }
+
+    final boolean wasClean = (this.state == CLEAN);
+
+    this.state = state;
+
+    if(wasClean) {
+      for(final Reactive<?> observer : observers) {
+        observer.stale(CHECK);
+      }
+    }
+  }
+
+  /**
+   * Marks this dirty, since a {@link ReactiveVariable} that it read has changed.
+   */
+  void changed() {
+    stale(DIRTY);
+  }
+
+  /**
+   * Brings the value up to date, recomputing only if a dependency has changed.
+   */
+  private void refresh() throws Exception {
+    if(state == CHECK) {
+      for(final Object source : sources) {
+        if(source instanceof Reactive) {
+          ((Reactive<?>)source).refresh();
+
+          if(state == DIRTY) {
+            break;
+          }
+        }
+      }
+    }
+
+    if(state == DIRTY) {
+      recompute();
+    }
+
+    state = CLEAN;
+  }
+
+  private void recompute() throws Exception {
+    removeFromSources();
+
+    final Reactive<?> previous = COMPUTING.get();
+
+    COMPUTING.set(this);
+
+    final T value;
+
+    try {
+      value = getScalar().value();
+    } finally {
+      COMPUTING.set(previous);
+    }
+
+    if(!Objects.equals(this.value, value)) {
+      this.value = value;
+
+      for(final Reactive<?> observer : observers) {
+        observer.state = DIRTY;
+      }
+    }
+  }
+
+  private void removeFromSources() {
+    for(final Object source : sources) {
+      if(source instanceof Reactive) {
+        ((Reactive<?>)source).observers.remove(this);
+      } else {
+        ((ReactiveVariable<?>)source).removeObserver(this);
+      }
+    }
+
+    sources.clear();
+    sourceSet.clear();
+  }
+
+  // Getters/setters
+  //--------------------------------------------------
+
+  protected Scalar<T> getScalar() {
+    return scalar;
+  }
+
+}
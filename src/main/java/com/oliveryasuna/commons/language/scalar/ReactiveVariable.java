@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Variable} that notifies the {@link Reactive}s that read it when its value changes.
+ * <p>
+ * Setting an equal value notifies no one.
+ * Not thread-safe, as described by {@link Reactive}.
+ *
+ * @param <T> The type of the value.
+ *
+ * @author Oliver Yasuna
+ */
+public class ReactiveVariable<T> extends Variable<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public ReactiveVariable(final T value) {
+    super(value);
+  }
+
+  public ReactiveVariable() {
+    this(null);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final List<Reactive<?>> observers = new ArrayList<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public T value() throws Exception {
+    Reactive.track(this);
+
+    return super.value();
+  }
+
+  @Override
+  public void setValue(final T value) {
+    if(Objects.equals(getValue(), value)) {
+      return;
+    }
+
+    super.setValue(value);
+
+    for(final Reactive<?> observer : observers) {
+      observer.changed();
+    }
+  }
+
+  void addObserver(final Reactive<?> observer) {
+    observers.add(observer);
+  }
+
+  void removeObserver(final Reactive<?> observer) {
+    observers.remove(observer);
+  }
+
+}
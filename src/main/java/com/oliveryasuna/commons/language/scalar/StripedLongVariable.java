@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@code long} counter for high contention.
+ * <p>
+ * Updates are spread over cells, as by {@link LongAdder}, so concurrent updates rarely contend, at the cost of more memory and slower reads.
+ * The value is the sum of the cells, which is not an atomic snapshot while updates are in progress.
+ * Prefer {@link AtomicLongVariable} when updates are rare, or when compare-and-set is needed.
+ *
+ * @author Oliver Yasuna
+ */
+public class StripedLongVariable implements LongScalar {
+
+  // Constructors
+  //--------------------------------------------------
+
+  public StripedLongVariable(final long value) {
+    super();
+
+    this.adder.add(value);
+  }
+
+  public StripedLongVariable() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final LongAdder adder = new LongAdder();
+
+  // Methods
+  //--------------------------------------------------
+
+  @Override
+  public long longValue() {
+    return adder.sum();
+  }
+
+  @Override
+  public Long value() {
+    return adder.sum();
+  }
+
+  public void add(final long delta) {
+    adder.add(delta);
+  }
+
+  public void increment() {
+    adder.increment();
+  }
+
+  public void decrement() {
+    adder.decrement();
+  }
+
+  /**
+   * Resets the value to zero.
+   * <p>
+   * Only accurate if there are no concurrent updates.
+   */
+  public void reset() {
+    adder.reset();
+  }
+
+  /**
+   * Gets the value, and resets it to zero.
+   * <p>
+   * Only accurate if there are no concurrent updates.
+   *
+   * @return The value.
+   */
+  public long getAndReset() {
+    return adder.sumThenReset();
+  }
+
+  @Override
+  public String toString() {
+    return adder.toString();
+  }
+
+}
@@ -22,7 +22,7 @@ import com.oliveryasuna.commons.language.condition.Arguments;
 import com.oliveryasuna.commons.language.marker.Immutable;
 
 @Immutable
-public class Xor implements Scalar<Boolean> {
+public class Xor implements BooleanScalar {
 
   // Constructors
   //--------------------------------------------------
@@ -50,7 +50,7 @@ public class Xor implements Scalar<Boolean> {
   //--------------------------------------------------
 
   @Override
-  public Boolean value() throws Exception {
+  public boolean booleanValue() throws Exception {
     final Scalar<Boolean>[] scalars = getScalars();
 
     boolean result = scalars[0].value();
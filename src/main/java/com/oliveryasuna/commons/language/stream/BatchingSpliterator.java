@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over an {@link Iterator} that splits by copying batches of elements into arrays.
+ * <p>
+ * Similar to {@link Spliterators#spliterator(Iterator, long, int)}, except the batch size is configurable and the size may be an estimate.
+ * Each split takes the next batch from the iterator; the batch size starts at {@code batchSize} and grows by {@code batchSize} per split up to
+ * {@code maxBatchSize}.
+ * A fixed batch size ({@code batchSize == maxBatchSize}) suits sources with few, expensive elements.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class BatchingSpliterator<T> implements Spliterator<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  /**
+   * The default initial batch size.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1 << 10;
+
+  /**
+   * The default maximum batch size.
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1 << 25;
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param iterator        The source.
+   * @param size            The exact size, if {@code characteristics} reports {@link Spliterator#SIZED}; otherwise, an estimate, or
+   *                        {@link Long#MAX_VALUE} if unknown.
+   * @param characteristics The characteristics of the source.
+   * @param batchSize       The initial batch size.
+   * @param maxBatchSize    The maximum batch size.
+   */
+  public BatchingSpliterator(final Iterator<? extends T> iterator, final long size, final int characteristics, final int batchSize,
+                             final int maxBatchSize) {
+    super();
+
+    Arguments.requireNotNull(iterator, "iterator");
+    Arguments.requireGreaterOrSame(size, 0L, "size");
+    Arguments.requireGreater(batchSize, 0, "batchSize");
+    Arguments.requireGreaterOrSame(maxBatchSize, batchSize, "maxBatchSize");
+
+    this.iterator = iterator;
+    this.estimate = size;
+    this.characteristics = ((characteristics & Spliterator.SIZED) != 0 && (characteristics & Spliterator.CONCURRENT) == 0
+        ? characteristics | Spliterator.SUBSIZED
+        : characteristics);
+    this.batchIncrement = batchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Creates an instance with a fixed batch size.
+   *
+   * @see #BatchingSpliterator(Iterator, long, int, int, int)
+   */
+  public BatchingSpliterator(final Iterator<? extends T> iterator, final long size, final int characteristics, final int batchSize) {
+    this(iterator, size, characteristics, batchSize, batchSize);
+  }
+
+  /**
+   * Creates an instance with the default batch sizes.
+   *
+   * @see #BatchingSpliterator(Iterator, long, int, int, int)
+   */
+  public BatchingSpliterator(final Iterator<? extends T> iterator, final long size, final int characteristics) {
+    this(iterator, size, characteristics, DEFAULT_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Iterator<? extends T> iterator;
+
+  private final int characteristics;
+
+  private final int batchIncrement;
+
+  private final int maxBatchSize;
+
+  private long estimate;
+
+  private int batchSize;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public Spliterator<T> trySplit() {
+    final Iterator<? extends T> iterator = this.iterator;
+    final long estimate = this.estimate;
+
+    if(estimate <= 1 || !iterator.hasNext()) {
+      return null;
+    }
+
+    final int n = (int)Math.min(estimate, batchSize);
+    final Object[] batch = new Object[n];
+
+    int j = 0;
+
+    do {
+      batch[j] = iterator.next();
+    } while(++j < n && iterator.hasNext());
+
+    batchSize = (int)Math.min((long)batchSize + batchIncrement, maxBatchSize);
+
+    if(estimate != Long.MAX_VALUE) {
+      this.estimate = estimate - j;
+    }
+
+    return Spliterators.spliterator(batch, 0, j, characteristics);
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(iterator.hasNext()) {
+      action.accept(iterator.next());
+
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    iterator.forEachRemaining(action);
+  }
+
+  @Override
+  public long estimateSize() {
+    return estimate;
+  }
+
+  @Override
+  public int characteristics() {
+    return characteristics;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    if(hasCharacteristics(Spliterator.SORTED)) {
+      return null;
+    }
+
+    throw new IllegalStateException();
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that groups consecutive elements of a source into {@link List}s of a fixed size.
+ * <p>
+ * The last chunk may be smaller.
+ * Chunks are filled lazily, one at a time, so at most one chunk is held per spliterator.
+ * <p>
+ * Splits only if the source reports {@link Spliterator#SUBSIZED}: the source is split, and, if the prefix does not end on a chunk boundary, the
+ * elements needed to complete its last chunk are moved from this spliterator to the prefix, so chunks are identical to those of a sequential
+ * traversal.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class ChunkingSpliterator<T> implements Spliterator<List<T>> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param source The source.
+   * @param size   The number of elements per chunk.
+   */
+  public ChunkingSpliterator(final Spliterator<T> source, final int size) {
+    this(Arguments.requireNotNull(source, "source"), Arguments.requireGreater(size, 0, "size"), null);
+  }
+
+  private ChunkingSpliterator(final Spliterator<T> source, final int size, final Spliterator<T> tail) {
+    super();
+
+    this.source = source;
+    this.size = size;
+    this.tail = tail;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<T> source;
+
+  private final int size;
+
+  /**
+   * Elements that follow the source, borrowed from a split sibling to complete the last chunk; or {@code null}.
+   */
+  private final Spliterator<T> tail;
+
+  // Methods
+  //--------------------------------------------------
+
+  private boolean advanceElement(final Consumer<? super T> action) {
+    return (source.tryAdvance(action) || (tail != null && tail.tryAdvance(action)));
+  }
+
+  private long remainingElements() {
+    final long sourceSize = source.estimateSize();
+    final long tailSize = (tail != null ? tail.estimateSize() : 0);
+
+    return (sourceSize + tailSize < 0 ? Long.MAX_VALUE : sourceSize + tailSize);
+  }
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super List<T>> action) {
+    Arguments.requireNotNull(action, "action");
+
+    final List<T> chunk = new ArrayList<>((int)Math.min(size, Math.max(remainingElements(), 1)));
+
+    int filled = 0;
+
+    while(filled < size && advanceElement(chunk::add)) {
+      filled++;
+    }
+
+    if(chunk.isEmpty()) {
+      return false;
+    }
+
+    action.accept(chunk);
+
+    return true;
+  }
+
+  @Override
+  public Spliterator<List<T>> trySplit() {
+    if(!source.hasCharacteristics(Spliterator.SUBSIZED)) {
+      return null;
+    }
+
+    final Spliterator<T> prefix = source.trySplit();
+
+    if(prefix == null) {
+      return null;
+    }
+
+    final int remainder = (int)(prefix.getExactSizeIfKnown() % size);
+
+    if(remainder == 0) {
+      return new ChunkingSpliterator<>(prefix, size, null);
+    }
+
+    final GrowableArray<T> carry = new GrowableArray<>(size - remainder);
+
+    while(carry.size() < size - remainder && advanceElement(carry)) {
+      // Move the elements that complete the last chunk of the prefix.
+    }
+
+    return new ChunkingSpliterator<>(prefix, size, carry.spliterator());
+  }
+
+  @Override
+  public long estimateSize() {
+    final long elements = remainingElements();
+
+    return (elements == Long.MAX_VALUE ? Long.MAX_VALUE : (elements + size - 1) / size);
+  }
+
+  @Override
+  public int characteristics() {
+    return (source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED)) | Spliterator.NONNULL;
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over any number of sources, one after another.
+ * <p>
+ * Unlike repeated {@link java.util.stream.Stream#concat(java.util.stream.Stream, java.util.stream.Stream)}, sources are held in a flat array, so
+ * traversal does not recurse through a tree of nested spliterators.
+ * Splits the range of sources in half, or, if one source remains, that source.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class ConcatSpliterator<T> implements Spliterator<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param sources The sources.
+   */
+  public ConcatSpliterator(final Spliterator<? extends T>[] sources) {
+    this(Arguments.requireNotContainsSame(Arguments.requireNotNull(sources, "sources"), null, "sources").clone(), 0, sources.length);
+  }
+
+  private ConcatSpliterator(final Spliterator<? extends T>[] sources, final int origin, final int fence) {
+    super();
+
+    this.sources = sources;
+    this.index = origin;
+    this.fence = fence;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<? extends T>[] sources;
+
+  private final int fence;
+
+  /**
+   * The index of the current source.
+   */
+  private int index;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    while(index < fence) {
+      if(sources[index].tryAdvance(action)) {
+        return true;
+      }
+
+      sources[index++] = null;
+    }
+
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    while(index < fence) {
+      sources[index].forEachRemaining(action);
+      sources[index++] = null;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Spliterator<T> trySplit() {
+    final int remaining = (fence - index);
+
+    if(remaining > 1) {
+      final int mid = ((index + fence) >>> 1);
+      final Spliterator<T> prefix = new ConcatSpliterator<>(sources, index, mid);
+
+      index = mid;
+
+      return prefix;
+    }
+
+    return (remaining == 1 ? (Spliterator<T>)sources[index].trySplit() : null);
+  }
+
+  @Override
+  public long estimateSize() {
+    long size = 0;
+
+    for(int i = index; i < fence; i++) {
+      size += sources[i].estimateSize();
+
+      if(size < 0) {
+        return Long.MAX_VALUE;
+      }
+    }
+
+    return size;
+  }
+
+  @Override
+  public int characteristics() {
+    int characteristics = (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+
+    for(int i = index; i < fence; i++) {
+      characteristics &= sources[i].characteristics();
+    }
+
+    return (estimateSize() == Long.MAX_VALUE ? characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED) : characteristics);
+  }
+
+}
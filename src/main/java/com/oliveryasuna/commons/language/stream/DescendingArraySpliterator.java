@@ -0,0 +1,516 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator} that traverses a range of an array from the last element to the first.
+ * <p>
+ * Reports {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+ * Splits in half; the prefix covers the upper half of the range, which comes first in encounter order.
+ * <p>
+ * {@link OfInt}, {@link OfLong} and {@link OfDouble} do the same for primitive arrays.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class DescendingArraySpliterator<T> implements Spliterator<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param array                     The array.
+   * @param origin                    The lowest index to traverse, inclusive.
+   * @param fence                     The highest index to traverse, exclusive.
+   * @param additionalCharacteristics Characteristics to report in addition to the defaults.
+   *
+   * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+   */
+  public DescendingArraySpliterator(final Object[] array, final int origin, final int fence, final int additionalCharacteristics) {
+    super();
+
+    Arguments.requireNotNull(array, "array");
+    Objects.checkFromToIndex(origin, fence, array.length);
+
+    this.array = array;
+    this.origin = origin;
+    this.fence = fence;
+    this.characteristics = (additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+  }
+
+  /**
+   * Creates an instance over an entire array.
+   *
+   * @see #DescendingArraySpliterator(Object[], int, int, int)
+   */
+  public DescendingArraySpliterator(final Object[] array, final int additionalCharacteristics) {
+    this(array, 0, Arguments.requireNotNull(array, "array").length, additionalCharacteristics);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Object[] array;
+
+  private final int origin;
+
+  private final int characteristics;
+
+  /**
+   * One past the next index to traverse.
+   */
+  private int fence;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public Spliterator<T> trySplit() {
+    final int lo = origin;
+    final int hi = fence;
+    final int mid = ((lo + hi) >>> 1);
+
+    if(lo >= mid) {
+      return null;
+    }
+
+    fence = mid;
+
+    return new DescendingArraySpliterator<>(array, mid, hi, characteristics);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(fence > origin) {
+      action.accept((T)array[--fence]);
+
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEachRemaining(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    final Object[] array = this.array;
+    final int lo = origin;
+    int i = fence;
+
+    fence = lo;
+
+    while(i > lo) {
+      action.accept((T)array[--i]);
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    return (fence - origin);
+  }
+
+  @Override
+  public int characteristics() {
+    return characteristics;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    throw new IllegalStateException();
+  }
+
+  /**
+   * A {@link Spliterator.OfInt} that traverses a range of an {@code int} array from the last element to the first.
+   *
+   * @author Oliver Yasuna
+   * @see DescendingArraySpliterator
+   */
+  public static class OfInt implements Spliterator.OfInt {
+
+    // Constructors
+    //--------------------------------------------------
+
+    /**
+     * Creates an instance.
+     *
+     * @param array                     The array.
+     * @param origin                    The lowest index to traverse, inclusive.
+     * @param fence                     The highest index to traverse, exclusive.
+     * @param additionalCharacteristics Characteristics to report in addition to the defaults.
+     *
+     * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+     */
+    public OfInt(final int[] array, final int origin, final int fence, final int additionalCharacteristics) {
+      super();
+
+      Arguments.requireNotNull(array, "array");
+      Objects.checkFromToIndex(origin, fence, array.length);
+
+      this.array = array;
+      this.origin = origin;
+      this.fence = fence;
+      this.characteristics = (additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Creates an instance over an entire array.
+     *
+     * @see #OfInt(int[], int, int, int)
+     */
+    public OfInt(final int[] array, final int additionalCharacteristics) {
+      this(array, 0, Arguments.requireNotNull(array, "array").length, additionalCharacteristics);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final int[] array;
+
+    private final int origin;
+
+    private final int characteristics;
+
+    private int fence;
+
+    // Methods
+    //--------------------------------------------------
+
+    // Spliterator methods
+    //
+
+    @Override
+    public DescendingArraySpliterator.OfInt trySplit() {
+      final int lo = origin;
+      final int hi = fence;
+      final int mid = ((lo + hi) >>> 1);
+
+      if(lo >= mid) {
+        return null;
+      }
+
+      fence = mid;
+
+      return new DescendingArraySpliterator.OfInt(array, mid, hi, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      if(fence > origin) {
+        action.accept(array[--fence]);
+
+        return true;
+      }
+
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      final int[] array = this.array;
+      final int lo = origin;
+      int i = fence;
+
+      fence = lo;
+
+      while(i > lo) {
+        action.accept(array[--i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return (fence - origin);
+    }
+
+    @Override
+    public int characteristics() {
+      return characteristics;
+    }
+
+    @Override
+    public Comparator<? super Integer> getComparator() {
+      throw new IllegalStateException();
+    }
+
+  }
+
+  /**
+   * A {@link Spliterator.OfLong} that traverses a range of a {@code long} array from the last element to the first.
+   *
+   * @author Oliver Yasuna
+   * @see DescendingArraySpliterator
+   */
+  public static class OfLong implements Spliterator.OfLong {
+
+    // Constructors
+    //--------------------------------------------------
+
+    /**
+     * Creates an instance.
+     *
+     * @param array                     The array.
+     * @param origin                    The lowest index to traverse, inclusive.
+     * @param fence                     The highest index to traverse, exclusive.
+     * @param additionalCharacteristics Characteristics to report in addition to the defaults.
+     *
+     * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+     */
+    public OfLong(final long[] array, final int origin, final int fence, final int additionalCharacteristics) {
+      super();
+
+      Arguments.requireNotNull(array, "array");
+      Objects.checkFromToIndex(origin, fence, array.length);
+
+      this.array = array;
+      this.origin = origin;
+      this.fence = fence;
+      this.characteristics = (additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Creates an instance over an entire array.
+     *
+     * @see #OfLong(long[], int, int, int)
+     */
+    public OfLong(final long[] array, final int additionalCharacteristics) {
+      this(array, 0, Arguments.requireNotNull(array, "array").length, additionalCharacteristics);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final long[] array;
+
+    private final int origin;
+
+    private final int characteristics;
+
+    private int fence;
+
+    // Methods
+    //--------------------------------------------------
+
+    // Spliterator methods
+    //
+
+    @Override
+    public DescendingArraySpliterator.OfLong trySplit() {
+      final int lo = origin;
+      final int hi = fence;
+      final int mid = ((lo + hi) >>> 1);
+
+      if(lo >= mid) {
+        return null;
+      }
+
+      fence = mid;
+
+      return new DescendingArraySpliterator.OfLong(array, mid, hi, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      if(fence > origin) {
+        action.accept(array[--fence]);
+
+        return true;
+      }
+
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      final long[] array = this.array;
+      final int lo = origin;
+      int i = fence;
+
+      fence = lo;
+
+      while(i > lo) {
+        action.accept(array[--i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return (fence - origin);
+    }
+
+    @Override
+    public int characteristics() {
+      return characteristics;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+      throw new IllegalStateException();
+    }
+
+  }
+
+  /**
+   * A {@link Spliterator.OfDouble} that traverses a range of a {@code double} array from the last element to the first.
+   *
+   * @author Oliver Yasuna
+   * @see DescendingArraySpliterator
+   */
+  public static class OfDouble implements Spliterator.OfDouble {
+
+    // Constructors
+    //--------------------------------------------------
+
+    /**
+     * Creates an instance.
+     *
+     * @param array                     The array.
+     * @param origin                    The lowest index to traverse, inclusive.
+     * @param fence                     The highest index to traverse, exclusive.
+     * @param additionalCharacteristics Characteristics to report in addition to the defaults.
+     *
+     * @throws IndexOutOfBoundsException If the range is out of the bounds of the array.
+     */
+    public OfDouble(final double[] array, final int origin, final int fence, final int additionalCharacteristics) {
+      super();
+
+      Arguments.requireNotNull(array, "array");
+      Objects.checkFromToIndex(origin, fence, array.length);
+
+      this.array = array;
+      this.origin = origin;
+      this.fence = fence;
+      this.characteristics = (additionalCharacteristics | Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED);
+    }
+
+    /**
+     * Creates an instance over an entire array.
+     *
+     * @see #OfDouble(double[], int, int, int)
+     */
+    public OfDouble(final double[] array, final int additionalCharacteristics) {
+      this(array, 0, Arguments.requireNotNull(array, "array").length, additionalCharacteristics);
+    }
+
+    // Fields
+    //--------------------------------------------------
+
+    private final double[] array;
+
+    private final int origin;
+
+    private final int characteristics;
+
+    private int fence;
+
+    // Methods
+    //--------------------------------------------------
+
+    // Spliterator methods
+    //
+
+    @Override
+    public DescendingArraySpliterator.OfDouble trySplit() {
+      final int lo = origin;
+      final int hi = fence;
+      final int mid = ((lo + hi) >>> 1);
+
+      if(lo >= mid) {
+        return null;
+      }
+
+      fence = mid;
+
+      return new DescendingArraySpliterator.OfDouble(array, mid, hi, characteristics);
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      if(fence > origin) {
+        action.accept(array[--fence]);
+
+        return true;
+      }
+
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+      Arguments.requireNotNull(action, "action");
+
+      final double[] array = this.array;
+      final int lo = origin;
+      int i = fence;
+
+      fence = lo;
+
+      while(i > lo) {
+        action.accept(array[--i]);
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return (fence - origin);
+    }
+
+    @Override
+    public int characteristics() {
+      return characteristics;
+    }
+
+    @Override
+    public Comparator<? super Double> getComparator() {
+      throw new IllegalStateException();
+    }
+
+  }
+
+}
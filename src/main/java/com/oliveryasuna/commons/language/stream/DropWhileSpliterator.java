@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.function.IterationPredicate;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a source without its longest prefix whose elements match a predicate of the element and its encounter index.
+ * <p>
+ * Does not split until the prefix has been dropped; then, splits as the source does.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class DropWhileSpliterator<T> implements Spliterator<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param source    The source.
+   * @param predicate Tests an element and its index.
+   */
+  public DropWhileSpliterator(final Spliterator<? extends T> source, final IterationPredicate<? super T> predicate) {
+    super();
+
+    this.source = Arguments.requireNotNull(source, "source");
+    this.predicate = Arguments.requireNotNull(predicate, "predicate");
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<? extends T> source;
+
+  private final IterationPredicate<? super T> predicate;
+
+  private final Holder<T> holder = new Holder<>();
+
+  /**
+   * Whether the prefix is still being dropped.
+   */
+  private boolean dropping = true;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(!dropping) {
+      return source.tryAdvance(action);
+    }
+
+    long index = 0;
+
+    while(source.tryAdvance(holder)) {
+      final T element = holder.take();
+
+      if(!predicate.test(element, Math.toIntExact(index++))) {
+        dropping = false;
+
+        action.accept(element);
+
+        return true;
+      }
+    }
+
+    dropping = false;
+
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(dropping && !tryAdvance(action)) {
+      return;
+    }
+
+    source.forEachRemaining(action);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Spliterator<T> trySplit() {
+    return (dropping ? null : (Spliterator<T>)source.trySplit());
+  }
+
+  @Override
+  public long estimateSize() {
+    return source.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    return (source.characteristics() & (Spliterator.ORDERED | Spliterator.NONNULL));
+  }
+
+}
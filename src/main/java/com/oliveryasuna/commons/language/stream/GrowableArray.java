@@ -0,0 +1,190 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An append-only buffer backed by a single growable array.
+ * <p>
+ * Intended as a stream accumulator: one allocation per growth instead of one per element, and traversal in either direction without copying.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class GrowableArray<T> implements Consumer<T> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8);
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Drains a {@link Spliterator} into a new buffer, presized to its exact size, if known.
+   *
+   * @param spliterator The source.
+   * @param <T>         The type of elements.
+   *
+   * @return The buffer.
+   */
+  public static <T> GrowableArray<T> of(final Spliterator<? extends T> spliterator) {
+    Arguments.requireNotNull(spliterator, "spliterator");
+
+    final long size = spliterator.getExactSizeIfKnown();
+    final GrowableArray<T> buffer = new GrowableArray<>(size >= 0 && size <= MAX_CAPACITY ? (int)size : DEFAULT_CAPACITY);
+
+    spliterator.forEachRemaining(buffer);
+
+    return buffer;
+  }
+
+  static int grow(final int capacity, final int minCapacity) {
+    if(minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+      throw new OutOfMemoryError("Required array length is too large.");
+    }
+
+    return (int)Math.min(Math.max((long)capacity + (capacity >> 1), minCapacity), MAX_CAPACITY);
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param initialCapacity The initial capacity.
+   */
+  public GrowableArray(final int initialCapacity) {
+    super();
+
+    Arguments.requireGreaterOrSame(initialCapacity, 0, "initialCapacity");
+
+    this.elements = new Object[initialCapacity];
+  }
+
+  /**
+   * Creates an instance with a default initial capacity.
+   */
+  public GrowableArray() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private Object[] elements;
+
+  private int size;
+
+  // Methods
+  //--------------------------------------------------
+
+  public void add(final T element) {
+    if(size == elements.length) {
+      elements = Arrays.copyOf(elements, grow(elements.length, size + 1));
+    }
+
+    elements[size++] = element;
+  }
+
+  /**
+   * Appends all elements of another buffer.
+   *
+   * @param other The other buffer.
+   *
+   * @return This buffer.
+   */
+  public GrowableArray<T> addAll(final GrowableArray<? extends T> other) {
+    Arguments.requireNotNull(other, "other");
+
+    final int otherSize = other.size;
+
+    if(size + otherSize > elements.length) {
+      elements = Arrays.copyOf(elements, grow(elements.length, size + otherSize));
+    }
+
+    System.arraycopy(other.elements, 0, elements, size, otherSize);
+
+    size += otherSize;
+
+    return this;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(final int index) {
+    return (T)elements[Objects.checkIndex(index, size)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return (size == 0);
+  }
+
+  public void clear() {
+    Arrays.fill(elements, 0, size, null);
+
+    size = 0;
+  }
+
+  public Object[] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+
+  /**
+   * Gets a {@link Spliterator} over the elements in insertion order.
+   *
+   * @return The spliterator.
+   */
+  public Spliterator<T> spliterator() {
+    return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+  }
+
+  /**
+   * Gets a {@link Spliterator} over the elements in reverse insertion order.
+   *
+   * @return The spliterator.
+   */
+  public Spliterator<T> descendingSpliterator() {
+    return new DescendingArraySpliterator<>(elements, 0, size, 0);
+  }
+
+  // Consumer methods
+  //
+
+  @Override
+  public void accept(final T element) {
+    add(element);
+  }
+
+}
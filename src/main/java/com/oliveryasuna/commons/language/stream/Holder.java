@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import java.util.function.Consumer;
+
+/**
+ * A reusable {@link Consumer} that holds the last element it accepted.
+ * <p>
+ * Lets a {@link java.util.Spliterator} pull one element at a time from another without allocating a lambda per element.
+ *
+ * @param <T> The type of element.
+ *
+ * @author Oliver Yasuna
+ */
+final class Holder<T> implements Consumer<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  Holder() {
+    super();
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private T value;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Gets the held element and releases the reference to it.
+   *
+   * @return The element.
+   */
+  T take() {
+    final T value = this.value;
+
+    this.value = null;
+
+    return value;
+  }
+
+  // Consumer methods
+  //
+
+  @Override
+  public void accept(final T value) {
+    this.value = value;
+  }
+
+}
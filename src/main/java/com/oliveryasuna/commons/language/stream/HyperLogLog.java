@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Objects;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct elements in bounded memory.
+ * <p>
+ * Uses {@code 2^precision} one-byte registers; the standard error is about {@code 1.04 / sqrt(2^precision)}, or 0.8% at the default precision.
+ * Elements are hashed from {@link Object#hashCode()}, so elements with equal hash codes count once, and accuracy degrades as the number of distinct
+ * elements approaches {@code 2^32}.
+ * Sketches of the same precision can be merged, for example, across partial results of a parallel stream.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Oliver Yasuna
+ */
+public class HyperLogLog {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int DEFAULT_PRECISION = 14;
+
+  public static final int MIN_PRECISION = 4;
+
+  public static final int MAX_PRECISION = 18;
+
+  // Static methods
+  //--------------------------------------------------
+
+  /**
+   * Spreads a 32-bit hash code over 64 bits (the MurmurHash3 finalizer).
+   */
+  private static long mix(final int hashCode) {
+    long h = (hashCode + 0x9E3779B97F4A7C15L);
+
+    h ^= (h >>> 33);
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= (h >>> 33);
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= (h >>> 33);
+
+    return h;
+  }
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param precision The number of bits used to select a register, from {@link #MIN_PRECISION} to {@link #MAX_PRECISION}.
+   */
+  public HyperLogLog(final int precision) {
+    super();
+
+    Arguments.requireGreaterOrSame(precision, MIN_PRECISION, "precision");
+    Arguments.requireLessOrSame(precision, MAX_PRECISION, "precision");
+
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  /**
+   * Creates an instance with {@link #DEFAULT_PRECISION}.
+   */
+  public HyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int precision;
+
+  private final byte[] registers;
+
+  // Methods
+  //--------------------------------------------------
+
+  public void add(final Object element) {
+    addHash(mix(Objects.hashCode(element)));
+  }
+
+  /**
+   * Adds an element by a well-distributed 64-bit hash.
+   *
+   * @param hash The hash.
+   */
+  public void addHash(final long hash) {
+    final int index = (int)(hash >>> (64 - precision));
+    final byte rank = (byte)(Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1);
+
+    if(rank > registers[index]) {
+      registers[index] = rank;
+    }
+  }
+
+  /**
+   * Merges another sketch into this one.
+   *
+   * @param other The other sketch.
+   *
+   * @return This sketch.
+   *
+   * @throws IllegalArgumentException If the sketches have different precisions.
+   */
+  public HyperLogLog merge(final HyperLogLog other) {
+    Arguments.requireNotNull(other, "other");
+    Arguments.requireSame(other.precision, precision, "other.precision");
+
+    final byte[] registers = this.registers;
+    final byte[] otherRegisters = other.registers;
+
+    for(int i = 0; i < registers.length; i++) {
+      if(otherRegisters[i] > registers[i]) {
+        registers[i] = otherRegisters[i];
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Estimates the number of distinct elements added.
+   *
+   * @return The estimate.
+   */
+  public long estimate() {
+    final int m = registers.length;
+
+    double sum = 0;
+    int zeros = 0;
+
+    for(final byte register : registers) {
+      sum += Double.longBitsToDouble((1023L - register) << 52);
+
+      if(register == 0) {
+        zeros++;
+      }
+    }
+
+    final double alpha;
+
+    switch(m) {
+      case 16:
+        alpha = 0.673;
+        break;
+      case 32:
+        alpha = 0.697;
+        break;
+      case 64:
+        alpha = 0.709;
+        break;
+      default:
+        alpha = (0.7213 / (1 + 1.079 / m));
+    }
+
+    final double estimate = (alpha * m * m / sum);
+
+    if(estimate <= 2.5 * m && zeros > 0) {
+      // Small range correction (linear counting).
+      return Math.round(m * Math.log((double)m / zeros));
+    }
+
+    return Math.round(estimate);
+  }
+
+  public int getPrecision() {
+    return precision;
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+import com.oliveryasuna.commons.language.function.IterationBiFunction;
+import com.oliveryasuna.commons.language.function.IterationPredicate;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that filters and maps the elements of a source with their encounter index.
+ * <p>
+ * The index is passed as a primitive {@code int}, and counts elements of the source, not of the result.
+ * Splits only if the source is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, since the index of the first element of the suffix must
+ * be known.
+ *
+ * @param <T> The type of elements of the source.
+ * @param <R> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class IndexedSpliterator<T, R> implements Spliterator<R> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance that maps every element.
+   *
+   * @param source The source.
+   * @param mapper Maps an element and its index.
+   */
+  public IndexedSpliterator(final Spliterator<? extends T> source, final IterationBiFunction<? super T, ? extends R> mapper) {
+    this(Arguments.requireNotNull(source, "source"), null, Arguments.requireNotNull(mapper, "mapper"), 0);
+  }
+
+  /**
+   * Creates an instance that maps the elements that match a predicate.
+   *
+   * @param source    The source.
+   * @param predicate Tests an element and its index.
+   * @param mapper    Maps an element and its index.
+   */
+  public IndexedSpliterator(final Spliterator<? extends T> source, final IterationPredicate<? super T> predicate,
+                            final IterationBiFunction<? super T, ? extends R> mapper) {
+    this(Arguments.requireNotNull(source, "source"), Arguments.requireNotNull(predicate, "predicate"), Arguments.requireNotNull(mapper, "mapper"), 0);
+  }
+
+  private IndexedSpliterator(final Spliterator<? extends T> source, final IterationPredicate<? super T> predicate,
+                             final IterationBiFunction<? super T, ? extends R> mapper, final long index) {
+    super();
+
+    this.source = source;
+    this.predicate = predicate;
+    this.mapper = mapper;
+    this.index = index;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<? extends T> source;
+
+  /**
+   * The predicate, or {@code null} if every element is mapped.
+   */
+  private final IterationPredicate<? super T> predicate;
+
+  private final IterationBiFunction<? super T, ? extends R> mapper;
+
+  private final Holder<T> holder = new Holder<>();
+
+  /**
+   * The index of the next element of the source.
+   */
+  private long index;
+
+  // Methods
+  //--------------------------------------------------
+
+  private void accept(final T element, final Consumer<? super R> action) {
+    final int index = Math.toIntExact(this.index++);
+
+    if(predicate == null || predicate.test(element, index)) {
+      action.accept(mapper.apply(element, index));
+    }
+  }
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super R> action) {
+    Arguments.requireNotNull(action, "action");
+
+    while(source.tryAdvance(holder)) {
+      final int index = Math.toIntExact(this.index++);
+      final T element = holder.take();
+
+      if(predicate == null || predicate.test(element, index)) {
+        action.accept(mapper.apply(element, index));
+
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(final Consumer<? super R> action) {
+    Arguments.requireNotNull(action, "action");
+
+    source.forEachRemaining(element -> accept(element, action));
+  }
+
+  @Override
+  public Spliterator<R> trySplit() {
+    if(!source.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+      return null;
+    }
+
+    final Spliterator<? extends T> prefix = source.trySplit();
+
+    if(prefix == null) {
+      return null;
+    }
+
+    final Spliterator<R> split = new IndexedSpliterator<>(prefix, predicate, mapper, index);
+
+    index += prefix.getExactSizeIfKnown();
+
+    return split;
+  }
+
+  @Override
+  public long estimateSize() {
+    return source.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    final int characteristics = (source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+
+    return (predicate == null ? characteristics : characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED));
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that takes one element from each source in turn.
+ * <p>
+ * Sources that end are skipped; the spliterator ends when all sources end.
+ * Does not split.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class InterleavingSpliterator<T> implements Spliterator<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param sources The sources.
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public InterleavingSpliterator(final Spliterator<? extends T>... sources) {
+    super();
+
+    Arguments.requireNotNull(sources, "sources");
+    Arguments.requireNotContainsSame(sources, null, "sources");
+
+    this.sources = sources.clone();
+    this.remaining = sources.length;
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  /**
+   * The sources; ended sources are replaced with {@code null}.
+   */
+  private final Spliterator<? extends T>[] sources;
+
+  private int remaining;
+
+  private int next;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    final Spliterator<? extends T>[] sources = this.sources;
+
+    while(remaining > 0) {
+      final int index = next;
+      final Spliterator<? extends T> source = sources[index];
+
+      next = ((index + 1) % sources.length);
+
+      if(source == null) {
+        continue;
+      }
+
+      if(source.tryAdvance(action)) {
+        return true;
+      }
+
+      sources[index] = null;
+      remaining--;
+    }
+
+    return false;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    long size = 0;
+
+    for(final Spliterator<? extends T> source : sources) {
+      if(source != null) {
+        size += source.estimateSize();
+
+        if(size < 0) {
+          return Long.MAX_VALUE;
+        }
+      }
+    }
+
+    return size;
+  }
+
+  @Override
+  public int characteristics() {
+    int characteristics = (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL);
+
+    for(final Spliterator<? extends T> source : sources) {
+      if(source != null) {
+        characteristics &= source.characteristics();
+      }
+    }
+
+    return (estimateSize() == Long.MAX_VALUE ? characteristics & ~Spliterator.SIZED : characteristics);
+  }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that merges sources, each sorted by the same {@link Comparator}, into one sorted sequence.
+ * <p>
+ * A k-way merge: holds the head element of each source in a binary heap, so each element costs {@code O(log k)} comparisons and memory is
+ * {@code O(k)}.
+ * Equal elements are taken from earlier sources first.
+ * Does not split.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class MergingSpliterator<T> implements Spliterator<T> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param comparator The order of every source.
+   * @param sources    The sources.
+   */
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  public MergingSpliterator(final Comparator<? super T> comparator, final Spliterator<? extends T>... sources) {
+    super();
+
+    Arguments.requireNotNull(comparator, "comparator");
+    Arguments.requireNotNull(sources, "sources");
+    Arguments.requireNotContainsSame(sources, null, "sources");
+
+    this.comparator = comparator;
+    this.sources = sources.clone();
+    this.heads = new Object[sources.length];
+    this.heap = new int[sources.length];
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Comparator<? super T> comparator;
+
+  private final Spliterator<? extends T>[] sources;
+
+  /**
+   * The head element of each source.
+   */
+  private final Object[] heads;
+
+  /**
+   * Indices of sources with a head, ordered as a binary min-heap by head.
+   */
+  private final int[] heap;
+
+  private final Holder<T> holder = new Holder<>();
+
+  private int heapSize;
+
+  private boolean started;
+
+  // Methods
+  //--------------------------------------------------
+
+  private void start() {
+    started = true;
+
+    for(int i = 0; i < sources.length; i++) {
+      if(sources[i].tryAdvance(holder)) {
+        heads[i] = holder.take();
+        heap[heapSize++] = i;
+      }
+    }
+
+    for(int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+      siftDown(i);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean less(final int source1, final int source2) {
+    final int comparison = comparator.compare((T)heads[source1], (T)heads[source2]);
+
+    return (comparison < 0 || (comparison == 0 && source1 < source2));
+  }
+
+  private void siftDown(int index) {
+    final int[] heap = this.heap;
+    final int size = heapSize;
+    final int source = heap[index];
+
+    while(true) {
+      int child = ((index << 1) + 1);
+
+      if(child >= size) {
+        break;
+      }
+
+      if(child + 1 < size && less(heap[child + 1], heap[child])) {
+        child++;
+      }
+
+      if(!less(heap[child], source)) {
+        break;
+      }
+
+      heap[index] = heap[child];
+      index = child;
+    }
+
+    heap[index] = source;
+  }
+
+  // Spliterator methods
+  //
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean tryAdvance(final Consumer<? super T> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(!started) {
+      start();
+    }
+
+    if(heapSize == 0) {
+      return false;
+    }
+
+    final int source = heap[0];
+    final T element = (T)heads[source];
+
+    if(sources[source].tryAdvance(holder)) {
+      heads[source] = holder.take();
+    } else {
+      heads[source] = null;
+      heap[0] = heap[--heapSize];
+    }
+
+    if(heapSize > 0) {
+      siftDown(0);
+    }
+
+    action.accept(element);
+
+    return true;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    long size = heapSize;
+
+    for(final Spliterator<? extends T> source : sources) {
+      size += source.estimateSize();
+
+      if(size < 0) {
+        return Long.MAX_VALUE;
+      }
+    }
+
+    return size;
+  }
+
+  @Override
+  public int characteristics() {
+    int characteristics = (Spliterator.SIZED | Spliterator.NONNULL);
+
+    for(final Spliterator<? extends T> source : sources) {
+      characteristics &= source.characteristics();
+    }
+
+    return (characteristics | Spliterator.ORDERED | Spliterator.SORTED);
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    return comparator;
+  }
+
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A KLL quantile sketch, which estimates quantiles of a stream of {@code double}s in bounded memory.
+ * <p>
+ * Values are kept in a hierarchy of compactors; when a compactor fills up, it is sorted and every other value, chosen at random, is promoted to the
+ * next level with twice the weight.
+ * Capacities shrink by a factor of {@code 2/3} towards lower levels, so the sketch holds {@code O(k)} values and the rank error is roughly
+ * {@code 1.7 / k} (about 1% at the default {@code k}).
+ * The minimum and maximum are tracked exactly.
+ * Sketches can be merged, for example, across partial results of a parallel stream.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author Oliver Yasuna
+ */
+public class QuantileSketch {
+
+  // Static fields
+  //--------------------------------------------------
+
+  public static final int DEFAULT_K = 200;
+
+  public static final int MIN_K = 8;
+
+  private static final int MIN_CAPACITY = 8;
+
+  private static final double CAPACITY_DECAY = (2.0 / 3.0);
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param k The capacity of the top compactor, which controls accuracy.
+   */
+  public QuantileSketch(final int k) {
+    super();
+
+    Arguments.requireGreaterOrSame(k, MIN_K, "k");
+
+    this.k = k;
+    this.levels = new double[][] {new double[MIN_CAPACITY]};
+    this.sizes = new int[1];
+  }
+
+  /**
+   * Creates an instance with {@link #DEFAULT_K}.
+   */
+  public QuantileSketch() {
+    this(DEFAULT_K);
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final int k;
+
+  private double[][] levels;
+
+  private int[] sizes;
+
+  private long count;
+
+  private double min = Double.NaN;
+
+  private double max = Double.NaN;
+
+  // Methods
+  //--------------------------------------------------
+
+  /**
+   * Adds a value.
+   * <p>
+   * {@code NaN} is ignored.
+   *
+   * @param value The value.
+   */
+  public void add(final double value) {
+    if(Double.isNaN(value)) {
+      return;
+    }
+
+    if(count == 0) {
+      min = value;
+      max = value;
+    } else {
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+
+    count++;
+
+    append(0, value);
+
+    if(sizes[0] >= capacity(0)) {
+      compress();
+    }
+  }
+
+  /**
+   * Merges another sketch into this one.
+   *
+   * @param other The other sketch.
+   *
+   * @return This sketch.
+   */
+  public QuantileSketch merge(final QuantileSketch other) {
+    Arguments.requireNotNull(other, "other");
+
+    if(other.count == 0) {
+      return this;
+    }
+
+    if(count == 0) {
+      min = other.min;
+      max = other.max;
+    } else {
+      min = Math.min(min, other.min);
+      max = Math.max(max, other.max);
+    }
+
+    count += other.count;
+
+    for(int level = 0; level < other.levels.length; level++) {
+      final double[] items = other.levels[level];
+
+      for(int i = 0, size = other.sizes[level]; i < size; i++) {
+        append(level, items[i]);
+      }
+    }
+
+    compress();
+
+    return this;
+  }
+
+  /**
+   * Estimates a quantile.
+   *
+   * @param fraction The rank, as a fraction from {@code 0} to {@code 1}.
+   *
+   * @return The estimated value at that rank, or {@code NaN} if this sketch is empty.
+   */
+  public double quantile(final double fraction) {
+    return quantiles(fraction)[0];
+  }
+
+  /**
+   * Estimates multiple quantiles, sorting the retained values only once.
+   *
+   * @param fractions The ranks, as fractions from {@code 0} to {@code 1}.
+   *
+   * @return The estimated values, in the order of {@code fractions}; {@code NaN}s if this sketch is empty.
+   */
+  public double[] quantiles(final double... fractions) {
+    Arguments.requireNotNull(fractions, "fractions");
+
+    for(final double fraction : fractions) {
+      Arguments.requireTrue(fraction >= 0 && fraction <= 1, "fractions");
+    }
+
+    final double[] result = new double[fractions.length];
+
+    if(count == 0) {
+      Arrays.fill(result, Double.NaN);
+
+      return result;
+    }
+
+    // Sort each compactor, then walk them in merged order, accumulating weights.
+    final int levelCount = levels.length;
+    final double[][] sorted = new double[levelCount][];
+    final int[] positions = new int[levelCount];
+
+    long totalWeight = 0;
+
+    for(int level = 0; level < levelCount; level++) {
+      sorted[level] = Arrays.copyOf(levels[level], sizes[level]);
+
+      Arrays.sort(sorted[level]);
+
+      totalWeight += ((long)sizes[level] << level);
+    }
+
+    final Integer[] order = new Integer[fractions.length];
+
+    for(int q = 0; q < fractions.length; q++) {
+      order[q] = q;
+    }
+
+    Arrays.sort(order, (a, b) -> Double.compare(fractions[a], fractions[b]));
+
+    long cumulative = 0;
+    double value = min;
+
+    for(final int q : order) {
+      final double fraction = fractions[q];
+
+      if(fraction == 0) {
+        result[q] = min;
+
+        continue;
+      }
+
+      if(fraction == 1) {
+        result[q] = max;
+
+        continue;
+      }
+
+      final double target = (fraction * totalWeight);
+
+      while(cumulative < target) {
+        int next = -1;
+
+        for(int level = 0; level < levelCount; level++) {
+          if(positions[level] < sorted[level].length && (next == -1 || sorted[level][positions[level]] < sorted[next][positions[next]])) {
+            next = level;
+          }
+        }
+
+        if(next == -1) {
+          value = max;
+
+          break;
+        }
+
+        value = sorted[next][positions[next]++];
+        cumulative += (1L << next);
+      }
+
+      result[q] = value;
+    }
+
+    return result;
+  }
+
+  /**
+   * Gets the number of values added, including through merges.
+   *
+   * @return The count.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  public double getMin() {
+    return min;
+  }
+
+  public double getMax() {
+    return max;
+  }
+
+  private int capacity(final int level) {
+    final int depth = (levels.length - 1 - level);
+
+    return Math.max(MIN_CAPACITY, (int)Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+  }
+
+  private void append(final int level, final double value) {
+    if(level >= levels.length) {
+      levels = Arrays.copyOf(levels, level + 1);
+      sizes = Arrays.copyOf(sizes, level + 1);
+
+      levels[level] = new double[MIN_CAPACITY];
+    }
+
+    if(sizes[level] == levels[level].length) {
+      levels[level] = Arrays.copyOf(levels[level], levels[level].length << 1);
+    }
+
+    levels[level][sizes[level]++] = value;
+  }
+
+  /**
+   * Compacts every compactor that is at or over capacity, from the bottom up.
+   */
+  private void compress() {
+    for(int level = 0; level < levels.length; level++) {
+      if(sizes[level] < capacity(level)) {
+        continue;
+      }
+
+      final double[] items = levels[level];
+      final int size = sizes[level];
+      final int pairs = (size >> 1);
+
+      Arrays.sort(items, 0, size);
+
+      // An odd value out stays behind, which keeps the total weight exact.
+      final int start = (size & 1);
+      final int offset = (ThreadLocalRandom.current().nextBoolean() ? 1 : 0);
+
+      for(int i = 0; i < pairs; i++) {
+        append(level + 1, items[start + (i << 1) + offset]);
+      }
+
+      sizes[level] = start;
+    }
+  }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over sliding windows of a source.
+ * <p>
+ * Each window is a {@link List} of {@code size} consecutive elements, and each window starts {@code step} elements after the previous one.
+ * Trailing elements that do not fill a whole window are dropped.
+ * Only the current window is buffered.
+ * <p>
+ * Windows overlap, so the source cannot be split directly; instead, splits copy batches of windows into arrays, as {@link BatchingSpliterator}
+ * does.
+ *
+ * @param <T> The type of elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class WindowingSpliterator<T> implements Spliterator<List<T>> {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int BATCH_INCREMENT = (1 << 10);
+
+  private static final int MAX_BATCH_SIZE = (1 << 25);
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param source The source.
+   * @param size   The number of elements per window.
+   * @param step   The number of elements between the starts of consecutive windows.
+   */
+  public WindowingSpliterator(final Spliterator<T> source, final int size, final int step) {
+    super();
+
+    Arguments.requireNotNull(source, "source");
+    Arguments.requireGreater(size, 0, "size");
+    Arguments.requireGreater(step, 0, "step");
+
+    this.source = source;
+    this.size = size;
+    this.step = step;
+    this.window = new ArrayDeque<>(Math.min(size, 1 << 10));
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<T> source;
+
+  private final int size;
+
+  private final int step;
+
+  private final ArrayDeque<T> window;
+
+  /**
+   * Elements to discard before filling the next window.
+   */
+  private int skip;
+
+  private int batchSize;
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super List<T>> action) {
+    Arguments.requireNotNull(action, "action");
+
+    while(skip > 0 && source.tryAdvance(element -> {})) {
+      skip--;
+    }
+
+    if(skip > 0) {
+      return false;
+    }
+
+    while(window.size() < size && source.tryAdvance(window::addLast)) {
+      // Fill the window.
+    }
+
+    if(window.size() < size) {
+      window.clear();
+
+      return false;
+    }
+
+    action.accept(new ArrayList<>(window));
+
+    if(step >= size) {
+      window.clear();
+
+      skip = (step - size);
+    } else {
+      for(int i = 0; i < step; i++) {
+        window.pollFirst();
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public Spliterator<List<T>> trySplit() {
+    final long estimate = estimateSize();
+
+    if(estimate <= 1) {
+      return null;
+    }
+
+    batchSize = Math.min(batchSize + BATCH_INCREMENT, MAX_BATCH_SIZE);
+
+    final GrowableArray<List<T>> batch = new GrowableArray<>((int)Math.min(estimate, batchSize));
+
+    while(batch.size() < batchSize && tryAdvance(batch)) {
+      // Take the next batch of windows.
+    }
+
+    return (batch.isEmpty() ? null : Spliterators.spliterator(batch.toArray(), characteristics()));
+  }
+
+  @Override
+  public long estimateSize() {
+    final long sourceSize = source.estimateSize();
+
+    if(sourceSize == Long.MAX_VALUE) {
+      return Long.MAX_VALUE;
+    }
+
+    final long elements = (sourceSize + window.size() - skip);
+
+    return (elements < size ? 0 : (elements - size) / step + 1);
+  }
+
+  @Override
+  public int characteristics() {
+    return (source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED)) | Spliterator.NONNULL;
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.condition.Arguments;
+
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} that combines the elements of two sources pairwise.
+ * <p>
+ * Ends when either source ends.
+ * Does not split.
+ *
+ * @param <A> The type of elements of the first source.
+ * @param <B> The type of elements of the second source.
+ * @param <R> The type of combined elements.
+ *
+ * @author Oliver Yasuna
+ */
+public class ZipSpliterator<A, B, R> implements Spliterator<R> {
+
+  // Constructors
+  //--------------------------------------------------
+
+  /**
+   * Creates an instance.
+   *
+   * @param first  The first source.
+   * @param second The second source.
+   * @param zipper Combines an element of each source.
+   */
+  public ZipSpliterator(final Spliterator<? extends A> first, final Spliterator<? extends B> second,
+                        final BiFunction<? super A, ? super B, ? extends R> zipper) {
+    super();
+
+    this.first = Arguments.requireNotNull(first, "first");
+    this.second = Arguments.requireNotNull(second, "second");
+    this.zipper = Arguments.requireNotNull(zipper, "zipper");
+  }
+
+  // Fields
+  //--------------------------------------------------
+
+  private final Spliterator<? extends A> first;
+
+  private final Spliterator<? extends B> second;
+
+  private final BiFunction<? super A, ? super B, ? extends R> zipper;
+
+  private final Holder<A> firstHolder = new Holder<>();
+
+  private final Holder<B> secondHolder = new Holder<>();
+
+  // Methods
+  //--------------------------------------------------
+
+  // Spliterator methods
+  //
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super R> action) {
+    Arguments.requireNotNull(action, "action");
+
+    if(!first.tryAdvance(firstHolder) || !second.tryAdvance(secondHolder)) {
+      return false;
+    }
+
+    action.accept(zipper.apply(firstHolder.take(), secondHolder.take()));
+
+    return true;
+  }
+
+  @Override
+  public Spliterator<R> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Math.min(first.estimateSize(), second.estimateSize());
+  }
+
+  @Override
+  public int characteristics() {
+    return (first.characteristics() & second.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED));
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.pattern.registry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CacheRegistry}.
+ *
+ * @author Oliver Yasuna
+ */
+class CacheRegistryTest {
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  void frequentEntriesSurviveScan() {
+    final CacheRegistry<Integer> cache = CacheRegistry.<Integer>builder()
+        .maximumSize(100)
+        .build();
+
+    for(int key = 0; key < 100; key++) {
+      cache.register(key, key);
+    }
+
+    for(int round = 0; round < 5; round++) {
+      for(int key = 0; key < 50; key++) {
+        cache.getOrNull(key);
+        cache.cleanUp();
+      }
+    }
+
+    for(int key = 1_000; key < 11_000; key++) {
+      cache.register(key, key);
+    }
+
+    int survivors = 0;
+
+    for(int key = 0; key < 50; key++) {
+      if(cache.contains(key)) {
+        survivors++;
+      }
+    }
+
+    assertTrue(survivors >= 45, "survivors: " + survivors);
+  }
+
+  @Test
+  void largeMaximumWeightGrowsWithEntries() {
+    final CacheRegistry<Integer> cache = CacheRegistry.<Integer>builder()
+        .maximumWeight(1L << 40, (key, value) -> ((byte[])value).length)
+        .build();
+
+    for(int key = 0; key < 10_000; key++) {
+      cache.register(key, new byte[16]);
+    }
+
+    assertEquals(10_000, cache.size());
+    assertEquals(0, cache.getEvictionCount());
+  }
+
+}
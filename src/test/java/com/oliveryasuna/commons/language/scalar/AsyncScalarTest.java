@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link AsyncScalar} and the asynchronous boolean composites.
+ *
+ * @author Oliver Yasuna
+ */
+class AsyncScalarTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final long TIMEOUT_SECONDS = 5;
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static AsyncScalar<Boolean> failing(final Error error) {
+    return AsyncScalar.of(() -> {
+      throw error;
+    }, ForkJoinPool.commonPool());
+  }
+
+  private static AsyncScalar<Boolean> succeeding(final boolean value) {
+    return AsyncScalar.of(() -> value, ForkJoinPool.commonPool());
+  }
+
+  private static void assertFailsWith(final Error error, final CompletableFuture<Boolean> future) {
+    final ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+    assertSame(error, e.getCause());
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  void errorCompletesFuture() {
+    final AssertionError error = new AssertionError("child");
+
+    assertFailsWith(error, failing(error).value());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void errorReachesAsyncAnd() {
+    final AssertionError error = new AssertionError("child");
+
+    assertFailsWith(error, new AsyncAnd(succeeding(true), failing(error)).value());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void errorReachesAsyncOr() {
+    final AssertionError error = new AssertionError("child");
+
+    assertFailsWith(error, new AsyncOr(succeeding(false), failing(error)).value());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void errorReachesAsyncXor() {
+    final AssertionError error = new AssertionError("child");
+
+    assertFailsWith(error, new AsyncXor(succeeding(true), failing(error)).value());
+  }
+
+  @Test
+  void errorReachesAsyncNot() {
+    final AssertionError error = new AssertionError("child");
+
+    assertFailsWith(error, new AsyncNot(failing(error)).value());
+  }
+
+  @Test
+  void toScalarRethrowsError() {
+    final AssertionError error = new AssertionError("child");
+
+    assertSame(error, assertThrows(AssertionError.class, () -> failing(error).toScalar().value()));
+  }
+
+}
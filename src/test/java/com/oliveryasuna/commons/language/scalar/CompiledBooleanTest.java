@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link CompiledBoolean}.
+ *
+ * @author Oliver Yasuna
+ */
+class CompiledBooleanTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int NODES = 10_000;
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static Scalar<Boolean> leaf(final boolean value) {
+    return () -> value;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Scalar<Boolean> randomTree(final Random random, final Scalar<Boolean>[] leaves, final int depth) {
+    switch(depth <= 0 ? 0 : random.nextInt(8)) {
+      case 1:
+        return new Not(randomTree(random, leaves, depth - 1));
+      case 2:
+        return new And(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+      case 3:
+        return new Or(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+      case 4:
+        return new Xor(randomTree(random, leaves, depth - 1), randomTree(random, leaves, depth - 1));
+      case 5:
+        return (random.nextBoolean() ? True.getInstance() : False.getInstance());
+      default:
+        return leaves[random.nextInt(leaves.length)];
+    }
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  void matchesTreeOnRandomTrees() throws Exception {
+    final Random random = new Random(42);
+    final boolean[] values = new boolean[4];
+    final Scalar<Boolean>[] leaves = new Scalar[values.length];
+
+    for(int i = 0; i < leaves.length; i++) {
+      final int index = i;
+
+      leaves[i] = () -> values[index];
+    }
+
+    for(int tree = 0; tree < 1_000; tree++) {
+      final Scalar<Boolean> scalar = randomTree(random, leaves, 6);
+      final CompiledBoolean compiled = CompiledBoolean.compile(scalar);
+
+      for(int mask = 0; mask < (1 << values.length); mask++) {
+        for(int i = 0; i < values.length; i++) {
+          values[i] = (((mask >> i) & 1) == 1);
+        }
+
+        assertEquals(scalar.value(), compiled.value());
+      }
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void compilesDeepNotAndChain() throws Exception {
+    final Scalar<Boolean> leaf = leaf(true);
+
+    Scalar<Boolean> scalar = leaf;
+    boolean expected = true;
+
+    for(int i = 0; i < NODES; i++) {
+      scalar = new And(new Not(scalar), leaf);
+      expected = !expected;
+    }
+
+    assertEquals(expected, CompiledBoolean.compile(scalar).booleanValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void compilesDeepAlternatingChain() throws Exception {
+    final Scalar<Boolean> falseLeaf = leaf(false);
+    final Scalar<Boolean> trueLeaf = leaf(true);
+
+    Scalar<Boolean> scalar = trueLeaf;
+    boolean expected = true;
+
+    for(int i = 0; i < NODES; i++) {
+      switch(i % 3) {
+        case 0:
+          scalar = new And(scalar, trueLeaf);
+          break;
+        case 1:
+          scalar = new Or(scalar, falseLeaf);
+          break;
+        default:
+          scalar = new Not(scalar);
+          expected = !expected;
+      }
+    }
+
+    assertEquals(expected, CompiledBoolean.compile(scalar).booleanValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void evaluatesDeepXorChainConcurrently() throws Exception {
+    final Scalar<Boolean> trueLeaf = leaf(true);
+
+    // Each level nests an Xor operand, so the operand stack is far deeper than a long.
+    Scalar<Boolean> scalar = trueLeaf;
+    boolean expected = true;
+
+    for(int i = 0; i < NODES; i++) {
+      scalar = new Xor(trueLeaf, new And(scalar, trueLeaf));
+      expected = !expected;
+    }
+
+    final CompiledBoolean compiled = CompiledBoolean.compile(scalar);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+
+      for(int i = 0; i < 64; i++) {
+        results.add(executor.submit(compiled::booleanValue));
+      }
+
+      for(final Future<Boolean> result : results) {
+        assertEquals(expected, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.scalar;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link Reactive}.
+ *
+ * @author Oliver Yasuna
+ */
+class ReactiveTest {
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  void disposeInvalidatesDependents() throws Exception {
+    final ReactiveVariable<Integer> variable = new ReactiveVariable<>(1);
+    final Reactive<Integer> middle = new Reactive<>(() -> variable.value() * 2);
+    final Reactive<Integer> top = new Reactive<>(() -> middle.value() + 1);
+
+    assertEquals(3, (int)top.value());
+
+    middle.dispose();
+    variable.setValue(5);
+
+    assertEquals(11, (int)top.value());
+
+    // Reading through the dependent subscribed the disposed reactive again.
+    variable.setValue(6);
+
+    assertEquals(13, (int)top.value());
+  }
+
+  @Test
+  void disposeDoesNotRecomputeUnchangedDependents() throws Exception {
+    final ReactiveVariable<Integer> variable = new ReactiveVariable<>(1);
+    final AtomicInteger computations = new AtomicInteger();
+    final Reactive<Integer> middle = new Reactive<>(variable::value);
+    final Reactive<Integer> top = new Reactive<>(() -> {
+      computations.incrementAndGet();
+
+      return middle.value();
+    });
+
+    top.value();
+    middle.dispose();
+
+    assertEquals(1, (int)top.value());
+    assertEquals(1, computations.get());
+  }
+
+  @Test
+  void repeatedReadsAreOneDependency() throws Exception {
+    final ReactiveVariable<Integer> variable = new ReactiveVariable<>(1);
+    final AtomicInteger computations = new AtomicInteger();
+    final Reactive<Integer> total = new Reactive<>(() -> {
+      computations.incrementAndGet();
+
+      int sum = 0;
+
+      for(int i = 0; i < 1_000; i++) {
+        sum += variable.value();
+      }
+
+      return sum;
+    });
+
+    assertEquals(1_000, (int)total.value());
+
+    variable.setValue(2);
+
+    assertEquals(2_000, (int)total.value());
+    assertEquals(2, computations.get());
+  }
+
+}
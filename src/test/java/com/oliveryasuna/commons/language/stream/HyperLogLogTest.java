@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.StreamUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Accuracy tests for {@link HyperLogLog}.
+ * <p>
+ * Inputs are deterministic, so each estimate is too; bounds are four standard errors ({@code 1.04 / sqrt(2^precision)}).
+ *
+ * @author Oliver Yasuna
+ */
+class HyperLogLogTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int[] CARDINALITIES = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static void assertRelativeError(final long expected, final long estimate, final int precision) {
+    final double bound = (4 * 1.04 / Math.sqrt(1 << precision));
+    final double error = (Math.abs(estimate - expected) / (double)expected);
+
+    assertTrue(error <= bound,
+        () -> String.format("precision %d, cardinality %d: estimate %d has relative error %.4f > %.4f", precision, expected, estimate, error, bound));
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  void emptyEstimatesZero() {
+    assertEquals(0, new HyperLogLog().estimate());
+  }
+
+  @Test
+  void estimateIsWithinErrorBoundAtDefaultPrecision() {
+    for(final int cardinality : CARDINALITIES) {
+      final HyperLogLog sketch = new HyperLogLog();
+
+      for(int i = 0; i < cardinality; i++) {
+        sketch.add(i);
+      }
+
+      assertRelativeError(cardinality, sketch.estimate(), HyperLogLog.DEFAULT_PRECISION);
+    }
+  }
+
+  @Test
+  void estimateIsWithinErrorBoundAtOtherPrecisions() {
+    for(final int precision : new int[] {10, 12, 16, 18}) {
+      for(final int cardinality : CARDINALITIES) {
+        final HyperLogLog sketch = new HyperLogLog(precision);
+
+        for(int i = 0; i < cardinality; i++) {
+          sketch.add("element-" + i);
+        }
+
+        assertRelativeError(cardinality, sketch.estimate(), precision);
+      }
+    }
+  }
+
+  @Test
+  void duplicatesAreCountedOnce() {
+    final HyperLogLog once = new HyperLogLog();
+    final HyperLogLog thrice = new HyperLogLog();
+
+    for(int i = 0; i < 50_000; i++) {
+      once.add(i);
+
+      for(int j = 0; j < 3; j++) {
+        thrice.add(i);
+      }
+    }
+
+    assertEquals(once.estimate(), thrice.estimate());
+  }
+
+  @Test
+  void mergeMatchesSingleSketch() {
+    final HyperLogLog whole = new HyperLogLog();
+    final HyperLogLog left = new HyperLogLog();
+    final HyperLogLog right = new HyperLogLog();
+
+    for(int i = 0; i < 200_000; i++) {
+      whole.add(i);
+
+      // The halves overlap, which must not inflate the merged estimate.
+      if(i < 120_000) {
+        left.add(i);
+      }
+      if(i >= 80_000) {
+        right.add(i);
+      }
+    }
+
+    assertEquals(whole.estimate(), left.merge(right).estimate());
+  }
+
+  @Test
+  void parallelCollectorIsWithinErrorBound() {
+    for(final int cardinality : CARDINALITIES) {
+      final long estimate = IntStream.range(0, cardinality)
+          .boxed()
+          .parallel()
+          .collect(StreamUtils.Collectors.approximateDistinct());
+
+      assertRelativeError(cardinality, estimate, HyperLogLog.DEFAULT_PRECISION);
+    }
+  }
+
+}
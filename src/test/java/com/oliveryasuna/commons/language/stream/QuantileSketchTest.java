@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 Oliver Yasuna
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice, this list of conditions and the following disclaimer in the documentation
+ *     and/or other materials provided with the distribution.
+ * 3. Neither the name of the copyright holder nor the names of its contributors may be used to endorse or promote products derived from this software without
+ *      specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.oliveryasuna.commons.language.stream;
+
+import com.oliveryasuna.commons.language.StreamUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Accuracy tests for {@link QuantileSketch}.
+ * <p>
+ * Values are a shuffled permutation of {@code 0..n-1}, so the true rank of an estimate is the estimate itself.
+ * Compaction is randomized; bounds are about three times the nominal rank error ({@code 1.7 / k}).
+ *
+ * @author Oliver Yasuna
+ */
+class QuantileSketchTest {
+
+  // Static fields
+  //--------------------------------------------------
+
+  private static final int[] SIZES = {1_000, 10_000, 100_000, 1_000_000};
+
+  private static final double[] FRACTIONS = {0.01, 0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99};
+
+  // Static methods
+  //--------------------------------------------------
+
+  private static double[] shuffledRange(final int n, final long seed) {
+    final double[] values = new double[n];
+
+    for(int i = 0; i < n; i++) {
+      values[i] = i;
+    }
+
+    final Random random = new Random(seed);
+
+    for(int i = (n - 1); i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final double value = values[i];
+
+      values[i] = values[j];
+      values[j] = value;
+    }
+
+    return values;
+  }
+
+  private static void assertRankError(final int n, final double[] estimates, final double bound) {
+    for(int i = 0; i < FRACTIONS.length; i++) {
+      final double fraction = FRACTIONS[i];
+      final double estimate = estimates[i];
+      final double error = Math.abs(estimate / n - fraction);
+
+      assertTrue(error <= bound,
+          () -> String.format("size %d, fraction %.2f: estimate %.0f has rank error %.4f > %.4f", n, fraction, estimate, error, bound));
+    }
+  }
+
+  // Methods
+  //--------------------------------------------------
+
+  @Test
+  void emptyEstimatesNaN() {
+    assertEquals(Double.NaN, new QuantileSketch().quantile(0.5));
+  }
+
+  @Test
+  void rankErrorIsWithinBoundAtDefaultK() {
+    for(final int n : SIZES) {
+      final QuantileSketch sketch = new QuantileSketch();
+
+      for(final double value : shuffledRange(n, n)) {
+        sketch.add(value);
+      }
+
+      assertEquals(n, sketch.getCount());
+      assertRankError(n, sketch.quantiles(FRACTIONS), 0.03);
+    }
+  }
+
+  @Test
+  void rankErrorIsWithinBoundAtSmallK() {
+    for(final int n : SIZES) {
+      final QuantileSketch sketch = new QuantileSketch(50);
+
+      for(final double value : shuffledRange(n, n)) {
+        sketch.add(value);
+      }
+
+      assertRankError(n, sketch.quantiles(FRACTIONS), 0.1);
+    }
+  }
+
+  @Test
+  void sortedInputIsWithinBound() {
+    final int n = 1_000_000;
+    final QuantileSketch sketch = new QuantileSketch();
+
+    for(int i = 0; i < n; i++) {
+      sketch.add(i);
+    }
+
+    assertRankError(n, sketch.quantiles(FRACTIONS), 0.03);
+  }
+
+  @Test
+  void extremesAreExact() {
+    final QuantileSketch sketch = new QuantileSketch();
+
+    for(final double value : shuffledRange(100_000, 1)) {
+      sketch.add(value);
+    }
+
+    assertEquals(0, sketch.quantile(0));
+    assertEquals(99_999, sketch.quantile(1));
+  }
+
+  @Test
+  void parallelCollectorIsWithinBound() {
+    for(final int n : SIZES) {
+      final double[] values = shuffledRange(n, n);
+      final double[] estimates = IntStream.range(0, n)
+          .parallel()
+          .mapToObj(i -> values[i])
+          .collect(StreamUtils.Collectors.quantiles(FRACTIONS));
+
+      assertRankError(n, estimates, 0.03);
+    }
+  }
+
+}